@@ -0,0 +1,185 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.RejectionReason;
+
+/**
+ * Batch eligibility over ApplicantColumns, one rule at a time: each rule compares a whole
+ * column against its threshold and packs the outcome into a long[] bitmask (bit set = rule
+ * passed), then the masks are ANDed together. The loops have no data-dependent branches,
+ * so there are no mispredictions however mixed the data is.
+ *
+ * The comparisons are written exactly like EligibilityEngine's (including NaN behaviour and
+ * the debt ratio for non-positive income), so the eligible set is identical. Per-reason
+ * counts come from the masks too: a row is counted against the first rule of the pipeline
+ * that it fails. All masks of one evaluate() call use the same RulesSnapshot.
+ */
+public class BitsetEligibilityEvaluator {
+    private final RulesConfig config;
+    private final RulePipeline pipeline;
+
+    public BitsetEligibilityEvaluator() {
+        this(RulePipeline.defaultPipeline());
+    }
+
+    public BitsetEligibilityEvaluator(RulePipeline pipeline) {
+        this.config = RulesConfig.getInstance();
+        this.pipeline = pipeline;
+    }
+
+    public Result evaluate(ApplicantColumns columns) {
+        int size = columns.size();
+        int words = (size + 63) >>> 6;
+        long[] eligible = new long[words];
+        int[] rejectionCounts = new int[RejectionReason.values().length];
+
+        // Rows in the last word past size start out as failed
+        for (int w = 0; w < words; w++) {
+            eligible[w] = -1L;
+        }
+        if ((size & 63) != 0) {
+            eligible[words - 1] = (1L << (size & 63)) - 1;
+        }
+
+        RulesSnapshot rules = config.getSnapshot();
+        long[] passed = new long[words];
+        for (int op : pipeline.ops()) {
+            ruleMask(rules, op, columns, passed);
+
+            int rejected = 0;
+            for (int w = 0; w < words; w++) {
+                rejected += Long.bitCount(eligible[w] & ~passed[w]);
+                eligible[w] &= passed[w];
+            }
+            rejectionCounts[RulePipeline.reasonFor(op).ordinal()] = rejected;
+        }
+
+        return new Result(size, eligible, rejectionCounts);
+    }
+
+    // Fills mask with one bit per row, set when the row passes the rule
+    private static void ruleMask(RulesSnapshot rules, int op, ApplicantColumns columns, long[] mask) {
+        int size = columns.size();
+        switch (op) {
+            case RulePipeline.INCOME_CHECK:
+                incomeMask(columns.getMonthlyIncomes(), size, rules.getMinIncomeThreshold(), mask);
+                break;
+            case RulePipeline.DEBT_CHECK:
+                debtRatioMask(columns.getMonthlyIncomes(), columns.getExistingDebts(), size,
+                        rules.getMaxDebtToIncomeRatio(), mask);
+                break;
+            case RulePipeline.CREDIT_CHECK:
+                minimumMask(columns.getCreditScores(), size, rules.getMinCreditScore(), mask);
+                break;
+            case RulePipeline.EMPLOYMENT_CHECK:
+                minimumMask(columns.getEmploymentDurations(), size, rules.getMinEmploymentMonths(), mask);
+                break;
+            case RulePipeline.LOAN_AMOUNT_CHECK:
+                loanToIncomeMask(columns.getMonthlyIncomes(), columns.getLoanAmountsRequested(), size,
+                        rules.getMaxLoanToIncomeRatio(), mask);
+                break;
+            default:
+                throw new IllegalStateException("Unknown rule opcode " + op);
+        }
+    }
+
+    private static void incomeMask(double[] income, int size, double minIncome, long[] mask) {
+        for (int base = 0, w = 0; base < size; base += 64, w++) {
+            int end = Math.min(64, size - base);
+            long bits = 0;
+            for (int b = 0; b < end; b++) {
+                bits |= (long) (income[base + b] < minIncome ? 0 : 1) << b;
+            }
+            mask[w] = bits;
+        }
+    }
+
+    private static void debtRatioMask(double[] income, double[] debt, int size, double maxRatio, long[] mask) {
+        for (int base = 0, w = 0; base < size; base += 64, w++) {
+            int end = Math.min(64, size - base);
+            long bits = 0;
+            for (int b = 0; b < end; b++) {
+                double monthlyIncome = income[base + b];
+                double ratio = monthlyIncome > 0 ? debt[base + b] / monthlyIncome : Double.MAX_VALUE;
+                bits |= (long) (ratio > maxRatio ? 0 : 1) << b;
+            }
+            mask[w] = bits;
+        }
+    }
+
+    private static void minimumMask(int[] values, int size, int minimum, long[] mask) {
+        for (int base = 0, w = 0; base < size; base += 64, w++) {
+            int end = Math.min(64, size - base);
+            long bits = 0;
+            for (int b = 0; b < end; b++) {
+                bits |= (long) (values[base + b] < minimum ? 0 : 1) << b;
+            }
+            mask[w] = bits;
+        }
+    }
+
+    private static void loanToIncomeMask(double[] income, double[] loan, int size, double maxRatio, long[] mask) {
+        for (int base = 0, w = 0; base < size; base += 64, w++) {
+            int end = Math.min(64, size - base);
+            long bits = 0;
+            for (int b = 0; b < end; b++) {
+                double loanToIncome = loan[base + b] / income[base + b];
+                bits |= (long) (loanToIncome > maxRatio ? 0 : 1) << b;
+            }
+            mask[w] = bits;
+        }
+    }
+
+    // Eligibility of a whole batch as a bitmask, plus rejections per reason
+    public static class Result {
+        private final int size;
+        private final long[] eligibleMask;
+        private final int[] rejectionCounts;
+
+        Result(int size, long[] eligibleMask, int[] rejectionCounts) {
+            this.size = size;
+            this.eligibleMask = eligibleMask;
+            this.rejectionCounts = rejectionCounts;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEligible(int row) {
+            return (eligibleMask[row >>> 6] & (1L << row)) != 0;
+        }
+
+        public long[] getEligibleMask() {
+            return eligibleMask;
+        }
+
+        public int getEligibleCount() {
+            int count = 0;
+            for (long word : eligibleMask) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        // Indices of the eligible rows in row order
+        public int[] getEligibleRows() {
+            int[] rows = new int[getEligibleCount()];
+            int count = 0;
+            for (int w = 0; w < eligibleMask.length; w++) {
+                long word = eligibleMask[w];
+                while (word != 0) {
+                    rows[count++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return rows;
+        }
+
+        public int getRejectedCount(RejectionReason reason) {
+            return rejectionCounts[reason.ordinal()];
+        }
+    }
+}
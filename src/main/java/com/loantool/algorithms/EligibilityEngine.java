@@ -1,56 +1,300 @@
 package com.loantool.algorithms;
 
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.EligibilityResult;
+import com.loantool.models.RejectionReason;
 import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.datastructures.RulesFlowGraph;
+import com.loantool.datastructures.RulesFlowGraph.RuleNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+/**
+ * Applies the eligibility rules. The engine keeps no per-evaluation state, so one instance
+ * can be shared by many worker threads; each call returns its own EligibilityResult.
+ *
+ * Rejection reasons always come from the pipeline order: evaluate() runs the checks in that
+ * order and reports the first one that fails. With adaptive ordering, the batch calls that
+ * only need the eligible set first sample the batch, measure each check's rejection rate
+ * and cost, and run the checks cheapest-and-most-selective first. The eligible set does not
+ * depend on the order. evaluateEligibilityParallel, which also counts rejections by reason,
+ * evaluates its rejected rows once more in pipeline order for the reason, and picks its
+ * order with that extra pass included in the cost, and reports the order it used on its
+ * BatchResult.
+ *
+ * Every call reads the rules from one RulesSnapshot, and batch calls take a single
+ * snapshot up front: rules published while a batch runs apply from the next batch on,
+ * never to half of the current one.
+ */
 public class EligibilityEngine {
+    private static final int MIN_CHUNK_SIZE = 16 * 1024;
+    private static final int SAMPLE_SIZE = 1024;
+    private static final double MIN_GAIN = 0.9;
+
     private final RulesConfig config;
-    private String rejectionReason;
+    private final RulePipeline pipeline;
+    private final int[] ops;
+    private final boolean adaptiveOrdering;
 
     public EligibilityEngine() {
+        this(RulePipeline.defaultPipeline());
+    }
+
+    // Runs the checks in the order given by the graph
+    public EligibilityEngine(RulesFlowGraph graph) {
+        this(RulePipeline.compile(graph));
+    }
+
+    public EligibilityEngine(RulePipeline pipeline) {
+        this(pipeline, false);
+    }
+
+    public EligibilityEngine(RulePipeline pipeline, boolean adaptiveOrdering) {
         this.config = RulesConfig.getInstance();
+        this.pipeline = pipeline;
+        this.ops = pipeline.ops();
+        this.adaptiveOrdering = adaptiveOrdering;
+    }
+
+    public EligibilityResult evaluate(Applicant applicant) {
+        return evaluate(config.getSnapshot(), applicant);
+    }
+
+    // Evaluates against the given rules instead of the ones currently published
+    public EligibilityResult evaluate(RulesSnapshot rules, Applicant applicant) {
+        return checkRules(rules, applicant.getMonthlyIncome(), applicant.getDebtToIncomeRatio(),
+                applicant.getCreditScore(), applicant.getEmploymentDuration(),
+                applicant.getLoanAmountRequested());
+    }
+
+    // Same rules for one row of an applicant store
+    public EligibilityResult evaluate(ApplicantStore store, int row) {
+        return evaluate(config.getSnapshot(), store, row);
+    }
+
+    public EligibilityResult evaluate(RulesSnapshot rules, ApplicantStore store, int row) {
+        return checkRules(rules, store.getMonthlyIncome(row), store.getDebtToIncomeRatio(row),
+                store.getCreditScore(row), store.getEmploymentDuration(row),
+                store.getLoanAmountRequested(row));
     }
 
     public boolean isEligible(Applicant applicant) {
-        // Decision Tree Rules
-        if (applicant.getMonthlyIncome() < config.getMinIncomeThreshold()) {
-            rejectionReason = "Income below minimum threshold";
-            return false;
+        return evaluate(applicant).isEligible();
+    }
+
+    public boolean isEligible(ApplicantStore store, int row) {
+        return evaluate(store, row).isEligible();
+    }
+
+    // Runs the checks in pipeline order; the first failing check decides the reason
+    private EligibilityResult checkRules(RulesSnapshot rules, double monthlyIncome, double debtRatio, int creditScore,
+                                         int employmentDuration, double loanAmountRequested) {
+        for (int op : ops) {
+            if (fails(rules, op, monthlyIncome, debtRatio, creditScore, employmentDuration, loanAmountRequested)) {
+                return rejection(op, debtRatio);
+            }
+        }
+
+        return EligibilityResult.ELIGIBLE;
+    }
+
+    // Eligibility only, with the checks run in the given order
+    // Also used by WhatIfAnalyzer, which runs the pipeline once per rules variant
+    static boolean passes(RulesSnapshot rules, int[] order, double monthlyIncome, double debtRatio,
+                          int creditScore, int employmentDuration, double loanAmountRequested) {
+        for (int op : order) {
+            if (fails(rules, op, monthlyIncome, debtRatio, creditScore, employmentDuration, loanAmountRequested)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean passes(RulesSnapshot rules, int[] order, Applicant applicant) {
+        return passes(rules, order, applicant.getMonthlyIncome(), applicant.getDebtToIncomeRatio(),
+                applicant.getCreditScore(), applicant.getEmploymentDuration(), applicant.getLoanAmountRequested());
+    }
+
+    private static boolean fails(RulesSnapshot rules, int op, double monthlyIncome, double debtRatio,
+                                 int creditScore, int employmentDuration, double loanAmountRequested) {
+        switch (op) {
+            case RulePipeline.INCOME_CHECK:
+                return monthlyIncome < rules.getMinIncomeThreshold();
+            case RulePipeline.DEBT_CHECK:
+                return debtRatio > rules.getMaxDebtToIncomeRatio();
+            case RulePipeline.CREDIT_CHECK:
+                return creditScore < rules.getMinCreditScore();
+            case RulePipeline.EMPLOYMENT_CHECK:
+                return employmentDuration < rules.getMinEmploymentMonths();
+            case RulePipeline.LOAN_AMOUNT_CHECK:
+                double loanToIncome = loanAmountRequested / monthlyIncome;
+                return loanToIncome > rules.getMaxLoanToIncomeRatio();
+            default:
+                throw new IllegalStateException("Unknown rule opcode " + op);
+        }
+    }
+
+    // The debt ratio rejection carries the applicant's ratio for its message
+    private static EligibilityResult rejection(int op, double debtRatio) {
+        RejectionReason reason = RulePipeline.reasonFor(op);
+        return reason == RejectionReason.DEBT_RATIO_TOO_HIGH
+                ? EligibilityResult.debtRatioTooHigh(debtRatio)
+                : EligibilityResult.rejected(reason);
+    }
+
+    // Order for one batch: the pipeline order (the ops array itself) unless adaptive ordering finds a cheaper one
+    private int[] adaptRuleOrder(RulesSnapshot rules, List<Applicant> applicants, boolean countsReasons) {
+        if (!adaptiveOrdering || applicants.isEmpty()) {
+            return ops;
+        }
+
+        RuleSample sample = new RuleSample(Math.min(SAMPLE_SIZE, applicants.size()));
+        if (applicants instanceof RandomAccess) {
+            // Evenly spaced rows, so sorted or grouped input is still represented
+            for (int i = 0; i < sample.size; i++) {
+                sample.set(i, applicants.get((int) ((long) applicants.size() * i / sample.size)));
+            }
+        } else {
+            for (int i = 0; i < sample.size; i++) {
+                sample.set(i, applicants.get(i));
+            }
+        }
+        return orderFromSample(rules, sample, countsReasons);
+    }
+
+    private int[] adaptRuleOrder(RulesSnapshot rules, ApplicantStore store) {
+        if (!adaptiveOrdering || store.size() == 0) {
+            return ops;
         }
 
-        double debtRatio = applicant.getDebtToIncomeRatio();
-        if (debtRatio > config.getMaxDebtToIncomeRatio()) {
-            rejectionReason = String.format("Debt ratio (%.1f%%) exceeds limit", debtRatio * 100);
-            return false;
+        RuleSample sample = new RuleSample(Math.min(SAMPLE_SIZE, store.size()));
+        for (int i = 0; i < sample.size; i++) {
+            int row = (int) ((long) store.size() * i / sample.size);
+            sample.set(i, store.getMonthlyIncome(row), store.getDebtToIncomeRatio(row), store.getCreditScore(row),
+                    store.getEmploymentDuration(row), store.getLoanAmountRequested(row));
         }
+        return orderFromSample(rules, sample, false);
+    }
 
-        if (applicant.getCreditScore() < config.getMinCreditScore()) {
-            rejectionReason = "Credit score too low";
-            return false;
+    /**
+     * Picks the order with the lowest expected cost on the sample. Each check is timed over
+     * the sample and its failures recorded as one bit per row; every permutation is then
+     * costed exactly from the counts of each failure pattern. With countsReasons, a rejected
+     * row also pays for the pipeline-order pass that finds its reason. The pipeline order is
+     * kept unless another order is clearly (MIN_GAIN) cheaper, so timer noise does not flip it.
+     */
+    private int[] orderFromSample(RulesSnapshot rules, RuleSample sample, boolean countsReasons) {
+        int checkCount = ops.length;
+        double[] cost = new double[checkCount];
+        int[] failures = new int[sample.size];
+
+        // Two passes: the first warms every check up, so the first one timed is not the slowest
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < checkCount; i++) {
+                long start = System.nanoTime();
+                for (int row = 0; row < sample.size; row++) {
+                    boolean failed = fails(rules, ops[i], sample.monthlyIncome[row], sample.debtRatio[row],
+                            sample.creditScore[row], sample.employmentDuration[row], sample.loanAmountRequested[row]);
+                    failures[row] = (failures[row] & ~(1 << i)) | (failed ? 1 : 0) << i;
+                }
+                cost[i] = Math.max(1, System.nanoTime() - start) / (double) sample.size;
+            }
         }
 
-        if (applicant.getEmploymentDuration() < config.getMinEmploymentMonths()) {
-            rejectionReason = "Employment duration too short";
-            return false;
+        int[] patternCounts = new int[1 << checkCount];
+        for (int row = 0; row < sample.size; row++) {
+            patternCounts[failures[row]]++;
         }
 
-        double loanToIncome = applicant.getLoanAmountRequested() / applicant.getMonthlyIncome();
-        if (loanToIncome > config.getMaxLoanToIncomeRatio()) {
-            rejectionReason = "Loan amount too high relative to income";
-            return false;
+        int[] permutation = new int[checkCount];
+        for (int i = 0; i < checkCount; i++) {
+            permutation[i] = i;
         }
+        int[] best = permutation.clone();
+        // The pipeline order finds the reason on its own, so it never pays for the extra pass
+        double[] bestCost = { expectedCost(permutation, patternCounts, cost, false) * MIN_GAIN };
+        boolean[] improved = { false };
+        searchOrders(permutation, 0, patternCounts, cost, countsReasons, best, bestCost, improved);
 
-        return true;
+        int[] order = ops;
+        if (improved[0]) {
+            order = new int[checkCount];
+            for (int i = 0; i < checkCount; i++) {
+                order[i] = ops[best[i]];
+            }
+        }
+        return order;
+    }
+
+    // Tries every permutation of positions [from, length); at most 5! orders
+    private static void searchOrders(int[] permutation, int from, int[] patternCounts, double[] cost,
+                                     boolean countsReasons, int[] best, double[] bestCost, boolean[] improved) {
+        if (from == permutation.length) {
+            double total = expectedCost(permutation, patternCounts, cost, countsReasons);
+            if (total < bestCost[0]) {
+                bestCost[0] = total;
+                improved[0] = true;
+                System.arraycopy(permutation, 0, best, 0, permutation.length);
+            }
+            return;
+        }
+        for (int i = from; i < permutation.length; i++) {
+            swap(permutation, from, i);
+            searchOrders(permutation, from + 1, patternCounts, cost, countsReasons, best, bestCost, improved);
+            swap(permutation, from, i);
+        }
+    }
+
+    // Sum over failure patterns of the checks run until the first failure in the order,
+    // plus (countsReasons) the pipeline-order checks run until the first failure for the reason
+    private static double expectedCost(int[] permutation, int[] patternCounts, double[] cost, boolean countsReasons) {
+        double total = 0;
+        for (int pattern = 0; pattern < patternCounts.length; pattern++) {
+            if (patternCounts[pattern] == 0) {
+                continue;
+            }
+
+            double rowCost = 0;
+            for (int check : permutation) {
+                rowCost += cost[check];
+                if ((pattern & (1 << check)) != 0) {
+                    break;
+                }
+            }
+            if (countsReasons && pattern != 0) {
+                int firstFailure = Integer.numberOfTrailingZeros(pattern);
+                for (int check = 0; check <= firstFailure; check++) {
+                    rowCost += cost[check];
+                }
+            }
+            total += rowCost * patternCounts[pattern];
+        }
+        return total;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
     }
 
     public List<Applicant> evaluateEligibility(List<Applicant> applicants) {
+        RulesSnapshot rules = config.getSnapshot();
+        int[] order = adaptRuleOrder(rules, applicants, false);
         List<Applicant> eligibleApplicants = new ArrayList<>();
 
         for (Applicant applicant : applicants) {
-            if (isEligible(applicant)) {
+            if (passes(rules, order, applicant)) {
                 applicant.setEligible(true);
                 eligibleApplicants.add(applicant);
             }
@@ -59,9 +303,216 @@ public class EligibilityEngine {
         return eligibleApplicants;
     }
 
+    public BatchResult evaluateEligibilityParallel(List<Applicant> applicants) {
+        return evaluateEligibilityParallel(applicants, ForkJoinPool.commonPool());
+    }
+
+    // Evaluates fixed-size chunks concurrently; eligible applicants come back in input order
+    public BatchResult evaluateEligibilityParallel(List<Applicant> applicants, ForkJoinPool pool) {
+        List<Applicant> source = applicants instanceof RandomAccess ? applicants : new ArrayList<>(applicants);
+        RulesSnapshot rules = config.getSnapshot();
+        int[] order = adaptRuleOrder(rules, source, true);
+        int size = source.size();
+        int chunkCount = Math.max(1, Math.min(pool.getParallelism() * 4, size / MIN_CHUNK_SIZE));
+
+        ChunkTask[] chunks = new ChunkTask[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int start = (int) ((long) size * i / chunkCount);
+            int end = (int) ((long) size * (i + 1) / chunkCount);
+            chunks[i] = new ChunkTask(this, rules, order, source, start, end);
+        }
+        pool.invoke(new EvaluateAllTask(chunks));
+
+        int eligibleCount = 0;
+        for (ChunkTask chunk : chunks) {
+            eligibleCount += chunk.eligible.size();
+        }
+
+        List<Applicant> eligibleApplicants = new ArrayList<>(eligibleCount);
+        int[] rejectionCounts = new int[RejectionReason.values().length];
+        for (ChunkTask chunk : chunks) {
+            eligibleApplicants.addAll(chunk.eligible);
+            for (int i = 0; i < rejectionCounts.length; i++) {
+                rejectionCounts[i] += chunk.rejectionCounts[i];
+            }
+        }
+
+        return new BatchResult(rules.getVersion(), size, eligibleApplicants, rejectionCounts, order);
+    }
+
+    // Store version: flags eligible rows and returns their indices in row order
+    public int[] evaluateEligibility(ApplicantStore store) {
+        RulesSnapshot rules = config.getSnapshot();
+        int[] order = adaptRuleOrder(rules, store);
+        int[] eligibleRows = new int[store.size()];
+        int count = 0;
+
+        for (int row = 0; row < store.size(); row++) {
+            if (passes(rules, order, store.getMonthlyIncome(row), store.getDebtToIncomeRatio(row),
+                    store.getCreditScore(row), store.getEmploymentDuration(row), store.getLoanAmountRequested(row))) {
+                store.setEligible(row, true);
+                eligibleRows[count++] = row;
+            }
+        }
+
+        return Arrays.copyOf(eligibleRows, count);
+    }
+
+    // Columnar batch evaluated rule by rule as bitmasks; same eligible rows as evaluateEligibility(store)
+    public int[] evaluateEligibilityBitset(ApplicantColumns columns) {
+        int[] eligibleRows = new BitsetEligibilityEvaluator(pipeline).evaluate(columns).getEligibleRows();
+        for (int row : eligibleRows) {
+            columns.setEligible(row, true);
+        }
+        return eligibleRows;
+    }
+
+    // Message for the first failing rule, or null if the applicant is eligible
     public String getRejectionReason(Applicant applicant) {
-        // Force evaluation to set rejection reason
-        isEligible(applicant);
-        return rejectionReason;
+        return evaluate(applicant).getMessage();
+    }
+
+    // Rule inputs of the sampled rows
+    private static class RuleSample {
+        final int size;
+        final double[] monthlyIncome;
+        final double[] debtRatio;
+        final int[] creditScore;
+        final int[] employmentDuration;
+        final double[] loanAmountRequested;
+
+        RuleSample(int size) {
+            this.size = size;
+            this.monthlyIncome = new double[size];
+            this.debtRatio = new double[size];
+            this.creditScore = new int[size];
+            this.employmentDuration = new int[size];
+            this.loanAmountRequested = new double[size];
+        }
+
+        void set(int i, Applicant applicant) {
+            set(i, applicant.getMonthlyIncome(), applicant.getDebtToIncomeRatio(), applicant.getCreditScore(),
+                    applicant.getEmploymentDuration(), applicant.getLoanAmountRequested());
+        }
+
+        void set(int i, double income, double ratio, int credit, int employment, double loan) {
+            monthlyIncome[i] = income;
+            debtRatio[i] = ratio;
+            creditScore[i] = credit;
+            employmentDuration[i] = employment;
+            loanAmountRequested[i] = loan;
+        }
+    }
+
+    private static class EvaluateAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient ChunkTask[] chunks;
+
+        EvaluateAllTask(ChunkTask[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(chunks);
+        }
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient EligibilityEngine engine;
+        private final transient RulesSnapshot rules;
+        private final transient int[] order;
+        private final transient List<Applicant> applicants;
+        private final int start;
+        private final int end;
+
+        transient List<Applicant> eligible;
+        final int[] rejectionCounts = new int[RejectionReason.values().length];
+
+        ChunkTask(EligibilityEngine engine, RulesSnapshot rules, int[] order, List<Applicant> applicants,
+                  int start, int end) {
+            this.engine = engine;
+            this.rules = rules;
+            this.order = order;
+            this.applicants = applicants;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            eligible = new ArrayList<>();
+            boolean pipelineOrder = order == engine.ops;
+            for (int i = start; i < end; i++) {
+                Applicant applicant = applicants.get(i);
+                EligibilityResult result = pipelineOrder || !passes(rules, order, applicant)
+                        ? engine.evaluate(rules, applicant)
+                        : EligibilityResult.ELIGIBLE;
+                if (result.isEligible()) {
+                    applicant.setEligible(true);
+                    eligible.add(applicant);
+                } else {
+                    rejectionCounts[result.getReason().ordinal()]++;
+                }
+            }
+        }
+    }
+
+    // Outcome of a batch evaluation: the eligible subset plus how many applicants each rule rejected
+    public static class BatchResult {
+        private final long rulesVersion;
+        private final int evaluatedCount;
+        private final List<Applicant> eligibleApplicants;
+        private final int[] rejectionCounts;
+        private final int[] ruleOrder;
+
+        BatchResult(long rulesVersion, int evaluatedCount, List<Applicant> eligibleApplicants, int[] rejectionCounts,
+                int[] ruleOrder) {
+            this.rulesVersion = rulesVersion;
+            this.evaluatedCount = evaluatedCount;
+            this.eligibleApplicants = eligibleApplicants;
+            this.rejectionCounts = rejectionCounts;
+            this.ruleOrder = ruleOrder;
+        }
+
+        // Version of the RulesSnapshot the whole batch was evaluated with
+        public long getRulesVersion() {
+            return rulesVersion;
+        }
+
+        public int getEvaluatedCount() {
+            return evaluatedCount;
+        }
+
+        public List<Applicant> getEligibleApplicants() {
+            return eligibleApplicants;
+        }
+
+        public int getRejectedCount() {
+            return evaluatedCount - eligibleApplicants.size();
+        }
+
+        public int getRejectedCount(RejectionReason reason) {
+            return rejectionCounts[reason.ordinal()];
+        }
+
+        // Order the checks ran in for this batch (the pipeline order unless adaptive ordering changed it)
+        public List<RuleNode> getRuleOrder() {
+            List<RuleNode> order = new ArrayList<>(ruleOrder.length);
+            for (int op : ruleOrder) {
+                order.add(RulePipeline.nodeFor(op));
+            }
+            return order;
+        }
+
+        public Map<RejectionReason, Integer> getRejectionCounts() {
+            Map<RejectionReason, Integer> counts = new EnumMap<>(RejectionReason.class);
+            for (RejectionReason reason : RejectionReason.values()) {
+                counts.put(reason, rejectionCounts[reason.ordinal()]);
+            }
+            return counts;
+        }
     }
 }
\ No newline at end of file
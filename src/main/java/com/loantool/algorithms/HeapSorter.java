@@ -2,6 +2,7 @@ package com.loantool.algorithms;
 
 import com.loantool.datastructures.ApplicantMaxHeap;
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,4 +33,45 @@ public class HeapSorter {
         ApplicantMaxHeap heap = new ApplicantMaxHeap(applicants);
         return heap.extractTopK(Math.min(k, applicants.size()));
     }
-}
+
+    // Sorts row indices of an applicant store by risk score (descending), using an in-place
+    // min-heap over the indices so no Applicant objects or heap nodes are needed
+    public int[] sortRows(ApplicantStore store, int[] rows) {
+        int[] sorted = rows.clone();
+
+        for (int i = sorted.length / 2 - 1; i >= 0; i--) {
+            siftDown(store, sorted, i, sorted.length);
+        }
+        // Moving the minimum to the end each round leaves the highest scores first
+        for (int end = sorted.length - 1; end > 0; end--) {
+            int temp = sorted[0];
+            sorted[0] = sorted[end];
+            sorted[end] = temp;
+            siftDown(store, sorted, 0, end);
+        }
+
+        return sorted;
+    }
+
+    private void siftDown(ApplicantStore store, int[] heap, int index, int size) {
+        while (true) {
+            int left = 2 * index + 1;
+            int right = left + 1;
+            int smallest = index;
+
+            if (left < size && store.getRiskScore(heap[left]) < store.getRiskScore(heap[smallest])) {
+                smallest = left;
+            }
+            if (right < size && store.getRiskScore(heap[right]) < store.getRiskScore(heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == index)
+                break;
+
+            int temp = heap[index];
+            heap[index] = heap[smallest];
+            heap[smallest] = temp;
+            index = smallest;
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.loantool.algorithms;
 
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -77,6 +78,52 @@ public class MergeSorter {
         }
     }
 
+    // Sorts row indices of an applicant store by risk score (descending), stable like sort()
+    public int[] sortRows(ApplicantStore store, int[] rows) {
+        int[] sorted = rows.clone();
+        if (sorted.length <= 1) {
+            return sorted;
+        }
+
+        // One scratch buffer for every merge instead of two temp arrays per call
+        mergeSortRows(store, sorted, new int[sorted.length], 0, sorted.length - 1);
+        return sorted;
+    }
+
+    private void mergeSortRows(ApplicantStore store, int[] rows, int[] temp, int left, int right) {
+        if (left < right) {
+            int mid = left + (right - left) / 2;
+
+            mergeSortRows(store, rows, temp, left, mid);
+            mergeSortRows(store, rows, temp, mid + 1, right);
+
+            mergeRows(store, rows, temp, left, mid, right);
+        }
+    }
+
+    private void mergeRows(ApplicantStore store, int[] rows, int[] temp, int left, int mid, int right) {
+        System.arraycopy(rows, left, temp, left, right - left + 1);
+
+        int i = left, j = mid + 1, k = left;
+
+        while (i <= mid && j <= right) {
+            // Same ordering as Applicant.compareTo: higher score first
+            if (Double.compare(store.getRiskScore(temp[j]), store.getRiskScore(temp[i])) <= 0) {
+                rows[k++] = temp[i++];
+            } else {
+                rows[k++] = temp[j++];
+            }
+        }
+
+        while (i <= mid) {
+            rows[k++] = temp[i++];
+        }
+
+        while (j <= right) {
+            rows[k++] = temp[j++];
+        }
+    }
+
     // Time Complexity: O(n log n) - best, average, and worst case
     // Space Complexity: O(n) - based with new temporaray data structures
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join merge sort with the same ordering as MergeSorter: descending risk score
+ * (Applicant.compareTo), stable for equal scores.
+ *
+ * One auxiliary array is allocated per sort. Both arrays start with the same contents
+ * and swap roles at every level of the recursion: the halves are sorted into one array
+ * and merged into the other, so no merge copies its input first. Runs below
+ * INSERTION_SORT_THRESHOLD are insertion sorted, ranges below PARALLEL_THRESHOLD are
+ * sorted on the current thread, and halves that are already in order are copied
+ * instead of merged.
+ */
+public class ParallelMergeSorter {
+    static final int INSERTION_SORT_THRESHOLD = 32;
+    static final int PARALLEL_THRESHOLD = 16 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public ParallelMergeSorter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelMergeSorter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<Applicant> sort(List<Applicant> applicants) {
+        if (applicants.size() <= 1) {
+            return new ArrayList<>(applicants);
+        }
+
+        Applicant[] array = applicants.toArray(new Applicant[0]);
+        sort(array);
+        return new ArrayList<>(Arrays.asList(array));
+    }
+
+    // Sorts the array in place
+    public void sort(Applicant[] array) {
+        if (array.length <= 1) {
+            return;
+        }
+        Applicant[] buffer = array.clone();
+        if (array.length < PARALLEL_THRESHOLD) {
+            mergeSort(buffer, array, 0, array.length);
+        } else {
+            pool.invoke(new SortTask(buffer, array, 0, array.length));
+        }
+    }
+
+    // Sorts dst[from, to); src holds the same elements on entry and is used as scratch
+    private static void mergeSort(Applicant[] src, Applicant[] dst, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(dst, src, from, mid);
+        mergeSort(dst, src, mid, to);
+        merge(src, dst, from, mid, to);
+    }
+
+    // Merges the sorted runs src[from, mid) and src[mid, to) into dst; left wins ties
+    private static void merge(Applicant[] src, Applicant[] dst, int from, int mid, int to) {
+        if (src[mid - 1].compareTo(src[mid]) <= 0) {
+            System.arraycopy(src, from, dst, from, to - from);
+            return;
+        }
+
+        int i = from, j = mid, k = from;
+
+        while (i < mid && j < to) {
+            if (src[i].compareTo(src[j]) <= 0) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    private static void insertionSort(Applicant[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            Applicant current = array[i];
+            int j = i - 1;
+            while (j >= from && array[j].compareTo(current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Applicant[] src;
+        private final transient Applicant[] dst;
+        private final int from;
+        private final int to;
+
+        SortTask(Applicant[] src, Applicant[] dst, int from, int to) {
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                mergeSort(src, dst, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(dst, src, from, mid), new SortTask(dst, src, mid, to));
+            merge(src, dst, from, mid, to);
+        }
+    }
+
+    // Time Complexity: O(n log n) worst case, O(n) for input that is already sorted
+    // Space Complexity: O(n) - one auxiliary array for the whole sort
+}
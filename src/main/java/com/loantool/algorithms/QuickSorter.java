@@ -1,10 +1,12 @@
 package com.loantool.algorithms;
 
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class QuickSorter {
 
@@ -116,4 +118,45 @@ public class QuickSorter {
         array[j] = temp;
     }
 
+    // Sorts row indices of an applicant store by risk score (descending)
+    public int[] sortRows(ApplicantStore store, int[] rows) {
+        int[] sorted = rows.clone();
+        if (sorted.length > 1) {
+            quickSortRows(store, sorted, 0, sorted.length - 1);
+        }
+        return sorted;
+    }
+
+    private void quickSortRows(ApplicantStore store, int[] rows, int low, int high) {
+        if (low < high) {
+            int pivotIndex = partitionRows(store, rows, low, high);
+
+            quickSortRows(store, rows, low, pivotIndex - 1);
+            quickSortRows(store, rows, pivotIndex + 1, high);
+        }
+    }
+
+    private int partitionRows(ApplicantStore store, int[] rows, int low, int high) {
+        int pivotIndex = low + ThreadLocalRandom.current().nextInt(high - low + 1);
+        swap(rows, pivotIndex, high);
+        double pivotScore = store.getRiskScore(rows[high]);
+
+        int i = low - 1;
+
+        for (int j = low; j < high; j++) {
+            // Same ordering as Applicant.compareTo: higher score first
+            if (Double.compare(pivotScore, store.getRiskScore(rows[j])) <= 0) {
+                swap(rows, ++i, j);
+            }
+        }
+
+        swap(rows, i + 1, high);
+        return i + 1;
+    }
+
+    private void swap(int[] rows, int i, int j) {
+        int temp = rows[i];
+        rows[i] = rows[j];
+        rows[j] = temp;
+    }
 }
\ No newline at end of file
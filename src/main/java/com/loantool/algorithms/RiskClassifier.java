@@ -1,43 +1,111 @@
 package com.loantool.algorithms;
 
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.DecisionTable;
 import com.loantool.models.LoanDecision;
 import com.loantool.models.RiskTier;
 import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class RiskClassifier {
     private final RulesConfig config;
+    private volatile RiskTierTable tierTable;
 
     public RiskClassifier() {
         this.config = RulesConfig.getInstance();
     }
 
     public LoanDecision classifySingle(Applicant applicant) {
-        double score = applicant.getRiskScore();
-        RiskTier tier = binarySearchRiskTier(score);
-        boolean approved = tier != RiskTier.HIGH_RISK || score >= 40;
+        return classifySingle(applicant, tierTable(), System.currentTimeMillis());
+    }
 
-        String reason = String.format("Risk Score: %.1f → %s", score, tier.getDisplayName());
+    private LoanDecision classifySingle(Applicant applicant, RiskTierTable table, long decisionTimeMillis) {
+        double score = applicant.getRiskScore();
+        RiskTier tier = table.tierFor(score);
+        boolean approved = isApproved(tier, score);
 
-        return new LoanDecision(applicant, tier, approved, reason);
+        // The "Risk Score: ... → tier" reason is formatted only if something reads it
+        return LoanDecision.scored(applicant, tier, approved, score, decisionTimeMillis);
     }
 
+    // The whole batch is classified with the thresholds published when it starts, and stamped with its start time
     public List<LoanDecision> classify(List<Applicant> applicants) {
+        RiskTierTable table = tierTable();
+        long decisionTime = System.currentTimeMillis();
         List<LoanDecision> decisions = new ArrayList<>();
 
         for (Applicant applicant : applicants) {
-            decisions.add(classifySingle(applicant));
+            decisions.add(classifySingle(applicant, table, decisionTime));
+        }
+
+        return decisions;
+    }
+
+    // Decisions for the given rows of an applicant store, in the order of rows
+    public List<LoanDecision> classify(ApplicantStore store, int[] rows) {
+        RiskTierTable table = tierTable();
+        long decisionTime = System.currentTimeMillis();
+        List<LoanDecision> decisions = new ArrayList<>(rows.length);
+
+        for (int row : rows) {
+            decisions.add(classifySingle(store.toApplicant(row), table, decisionTime));
+        }
+
+        return decisions;
+    }
+
+    // Same decisions as classify(store, rows), packed into primitive columns instead of objects
+    public DecisionTable classifyTable(ApplicantStore store, int[] rows) {
+        RiskTierTable table = tierTable();
+        long decisionTime = System.currentTimeMillis();
+        DecisionTable decisions = new DecisionTable(store, rows.length);
+
+        for (int row : rows) {
+            double score = store.getRiskScore(row);
+            RiskTier tier = table.tierFor(score);
+            decisions.addScored(row, tier, isApproved(tier, score), decisionTime);
         }
 
         return decisions;
     }
 
-    private RiskTier binarySearchRiskTier(double score) {
-        int[] thresholds = config.getRiskThresholds();
+    public RiskTier classifyTier(double score) {
+        return tierTable().tierFor(score);
+    }
+
+    // Lookup table for the current rules, rebuilt only when a new snapshot has been published
+    public RiskTierTable tierTable() {
+        RulesSnapshot rules = config.getSnapshot();
+        RiskTierTable table = tierTable;
+        if (table == null || table.getRulesVersion() != rules.getVersion()) {
+            table = RiskTierTable.forSnapshot(rules);
+            tierTable = table;
+        }
+        return table;
+    }
+
+    public static boolean isApproved(RiskTier tier, double score) {
+        return tier != RiskTier.HIGH_RISK || score >= 40;
+    }
+
+    // Tiers only, without building Applicant or LoanDecision objects
+    public RiskTier[] classifyTiers(ApplicantStore store, int[] rows) {
+        RiskTierTable table = tierTable();
+        RiskTier[] tiers = new RiskTier[rows.length];
+
+        for (int i = 0; i < rows.length; i++) {
+            tiers[i] = table.tierFor(store.getRiskScore(rows[i]));
+        }
+
+        return tiers;
+    }
 
+    // Reference lookup; RiskTierTable is built from it
+    public static RiskTier binarySearchRiskTier(double score, int[] thresholds) {
         int left = 0;
         int right = thresholds.length - 1;
 
@@ -57,7 +125,7 @@ public class RiskClassifier {
         return RiskTier.HIGH_RISK;
     }
 
-    private RiskTier getTierForThreshold(int index) {
+    private static RiskTier getTierForThreshold(int index) {
         switch (index) {
             case 0:
                 return RiskTier.LOW_RISK;
@@ -0,0 +1,126 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.ApplicantStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Batch risk scoring over primitive arrays. The arithmetic is Applicant.computeRiskScore
+ * written out with the same operations in the same order, so every score is bit-for-bit
+ * the one the per-applicant method returns.
+ *
+ * Rows are scored in blocks copied into scratch arrays that all start at index 0, with
+ * the credit score already converted to a double. The scoring loop then has only double
+ * loads and stores at one common index, no branches (Math.min/max become min/max
+ * instructions) and no calls, which is the shape C2's auto-vectorizer handles; a loop
+ * that mixes int-to-double conversion or differently offset arrays stays scalar.
+ */
+public class RiskScoringKernel {
+    // Small enough that the scratch arrays of a block stay in L1/L2
+    private static final int BLOCK_SIZE = 2048;
+
+    // scores[i] = score of (monthlyIncome[i], existingDebt[i], creditScore[i]) for i in [from, to)
+    public static void score(double[] monthlyIncome, double[] existingDebt, int[] creditScore,
+                             double[] scores, int from, int to) {
+        Block block = new Block(Math.min(BLOCK_SIZE, to - from));
+
+        for (int start = from; start < to; start += block.capacity) {
+            int length = Math.min(block.capacity, to - start);
+            System.arraycopy(monthlyIncome, start, block.income, 0, length);
+            System.arraycopy(existingDebt, start, block.debt, 0, length);
+            for (int i = 0; i < length; i++) {
+                block.creditAboveMinimum[i] = creditScore[start + i] - 300;
+            }
+            block.score(length);
+            System.arraycopy(block.scores, 0, scores, start, length);
+        }
+    }
+
+    public static double[] score(double[] monthlyIncome, double[] existingDebt, int[] creditScore, int length) {
+        double[] scores = new double[length];
+        score(monthlyIncome, existingDebt, creditScore, scores, 0, length);
+        return scores;
+    }
+
+    // Scores every row of the columns in place
+    public static void score(ApplicantColumns columns) {
+        score(columns.getMonthlyIncomes(), columns.getExistingDebts(), columns.getCreditScores(),
+                columns.getRiskScores(), 0, columns.size());
+    }
+
+    // Scores every row of any store: columns through the array kernel, other stores row by row
+    public static void score(ApplicantStore store) {
+        if (store instanceof ApplicantColumns) {
+            score((ApplicantColumns) store);
+            return;
+        }
+        for (int row = 0; row < store.size(); row++) {
+            store.calculateRiskScore(row);
+        }
+    }
+
+    // Same as calling calculateRiskScore() on each applicant: scores that are already current are kept
+    public static void scoreAll(List<Applicant> applicants) {
+        List<Applicant> rows = applicants instanceof RandomAccess ? applicants : new ArrayList<>(applicants);
+        int size = rows.size();
+        Block block = new Block(Math.min(BLOCK_SIZE, size));
+        int[] stale = new int[block.capacity];
+
+        for (int start = 0; start < size; start += block.capacity) {
+            int end = Math.min(start + block.capacity, size);
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                Applicant applicant = rows.get(i);
+                if (applicant.isRiskScoreCurrent()) {
+                    continue;
+                }
+                stale[length] = i;
+                block.income[length] = applicant.getMonthlyIncome();
+                block.debt[length] = applicant.getExistingDebt();
+                block.creditAboveMinimum[length] = applicant.getCreditScore() - 300;
+                length++;
+            }
+            block.score(length);
+            for (int i = 0; i < length; i++) {
+                rows.get(stale[i]).setCalculatedRiskScore(block.scores[i]);
+            }
+        }
+    }
+
+    // Scratch columns for one block of rows
+    private static class Block {
+        final int capacity;
+        final double[] income;
+        final double[] debt;
+        final double[] creditAboveMinimum; // creditScore - 300, computed in int like computeRiskScore
+        final double[] scores;
+
+        Block(int capacity) {
+            this.capacity = Math.max(capacity, 1);
+            this.income = new double[this.capacity];
+            this.debt = new double[this.capacity];
+            this.creditAboveMinimum = new double[this.capacity];
+            this.scores = new double[this.capacity];
+        }
+
+        void score(int length) {
+            double[] income = this.income;
+            double[] debt = this.debt;
+            double[] credit = this.creditAboveMinimum;
+            double[] scores = this.scores;
+
+            for (int i = 0; i < length; i++) {
+                double monthlyIncome = income[i];
+                double incomeWeight = (monthlyIncome / 5000) * 30;
+                double debtRatio = (debt[i] / monthlyIncome) * 100;
+                double debtWeight = Math.max(0, 30 - (debtRatio * 0.3));
+                double creditWeight = Math.min(40, Math.max(0, credit[i] / 5.5));
+                scores[i] = incomeWeight + debtWeight + creditWeight;
+            }
+        }
+    }
+}
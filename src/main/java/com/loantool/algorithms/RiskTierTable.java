@@ -0,0 +1,82 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.RiskTier;
+
+/**
+ * Risk tier lookup precomputed for one set of risk thresholds.
+ *
+ * The thresholds are integers, so every comparison "score >= threshold" depends only on
+ * floor(score), and so does the tier. The table stores the tier for each integer from one
+ * below the lowest threshold up to the highest; floor(score) is clamped into that range,
+ * since every value below (or above) it compares the same way. Each entry is filled in by
+ * RiskClassifier.binarySearchRiskTier, so lookups return exactly what the search would,
+ * for any thresholds. A lookup is a floor, a clamp and an array read, with no branch that
+ * depends on the score's tier, and allocates nothing.
+ *
+ * Threshold ranges too wide for a table (only possible with hand-set thresholds) fall
+ * back to the binary search.
+ */
+public final class RiskTierTable {
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private final long rulesVersion;
+    private final int[] thresholds;
+    private final int lowest;
+    private final int highest;
+    private final RiskTier bottomTier;
+    // tiers[k - lowest + 1] for floor(score) == k, with k clamped to [lowest - 1, highest]; null for the fallback
+    private final RiskTier[] tiers;
+
+    private RiskTierTable(long rulesVersion, int[] thresholds) {
+        this.rulesVersion = rulesVersion;
+        this.thresholds = thresholds;
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int threshold : thresholds) {
+            min = Math.min(min, threshold);
+            max = Math.max(max, threshold);
+        }
+        this.lowest = min;
+        this.highest = max;
+        this.bottomTier = RiskClassifier.binarySearchRiskTier(Double.NaN, thresholds);
+
+        long size = (long) max - min + 2;
+        if (thresholds.length == 0 || min == Integer.MIN_VALUE || size > MAX_TABLE_SIZE) {
+            this.tiers = null;
+            return;
+        }
+
+        this.tiers = new RiskTier[(int) size];
+        for (int i = 0; i < tiers.length; i++) {
+            tiers[i] = RiskClassifier.binarySearchRiskTier(min - 1 + i, thresholds);
+        }
+    }
+
+    public static RiskTierTable forSnapshot(RulesSnapshot rules) {
+        return new RiskTierTable(rules.getVersion(), rules.getRiskThresholds());
+    }
+
+    // A table not tied to a published snapshot (e.g. a what-if variant)
+    public static RiskTierTable forThresholds(int[] thresholds) {
+        return new RiskTierTable(0, thresholds.clone());
+    }
+
+    public RiskTier tierFor(double score) {
+        if (tiers == null) {
+            return RiskClassifier.binarySearchRiskTier(score, thresholds);
+        }
+        if (score != score) {
+            return bottomTier; // NaN fails every comparison
+        }
+        // The cast saturates for huge scores and infinities; int min/max compile to conditional moves
+        int k = Math.max(lowest - 1, Math.min(highest, (int) Math.floor(score)));
+        return tiers[k - lowest + 1];
+    }
+
+    // Version of the RulesSnapshot the table was built from; 0 if built from bare thresholds
+    public long getRulesVersion() {
+        return rulesVersion;
+    }
+}
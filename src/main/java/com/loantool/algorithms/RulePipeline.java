@@ -0,0 +1,114 @@
+package com.loantool.algorithms;
+
+import com.loantool.datastructures.RulesFlowGraph;
+import com.loantool.datastructures.RulesFlowGraph.RuleNode;
+import com.loantool.models.RejectionReason;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A RulesFlowGraph compiled into a flat array of check opcodes. EligibilityEngine runs the
+ * opcodes in a tight loop, so the order of the checks comes from the graph while the
+ * per-applicant work stays the same as a hand-written if-chain.
+ */
+public final class RulePipeline {
+    // Opcodes, one per check node
+    static final int INCOME_CHECK = 0;
+    static final int DEBT_CHECK = 1;
+    static final int CREDIT_CHECK = 2;
+    static final int EMPLOYMENT_CHECK = 3;
+    static final int LOAN_AMOUNT_CHECK = 4;
+
+    private static final RulePipeline DEFAULT = compile(new RulesFlowGraph());
+
+    private final List<RuleNode> checks;
+    private final int[] ops;
+
+    private RulePipeline(List<RuleNode> checks) {
+        this.checks = Collections.unmodifiableList(new ArrayList<>(checks));
+        this.ops = new int[checks.size()];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = opcodeFor(checks.get(i));
+        }
+    }
+
+    public static RulePipeline compile(RulesFlowGraph graph) {
+        return new RulePipeline(graph.compile());
+    }
+
+    // The default flow, START → Income → Debt → Credit → Employment → LoanAmount → ELIGIBLE
+    public static RulePipeline defaultPipeline() {
+        return DEFAULT;
+    }
+
+    private static int opcodeFor(RuleNode node) {
+        switch (node) {
+            case INCOME_CHECK:
+                return INCOME_CHECK;
+            case DEBT_CHECK:
+                return DEBT_CHECK;
+            case CREDIT_CHECK:
+                return CREDIT_CHECK;
+            case EMPLOYMENT_CHECK:
+                return EMPLOYMENT_CHECK;
+            case LOAN_AMOUNT_CHECK:
+                return LOAN_AMOUNT_CHECK;
+            default:
+                throw new IllegalArgumentException(node.getLabel() + " is not a check");
+        }
+    }
+
+    static RuleNode nodeFor(int op) {
+        switch (op) {
+            case INCOME_CHECK:
+                return RuleNode.INCOME_CHECK;
+            case DEBT_CHECK:
+                return RuleNode.DEBT_CHECK;
+            case CREDIT_CHECK:
+                return RuleNode.CREDIT_CHECK;
+            case EMPLOYMENT_CHECK:
+                return RuleNode.EMPLOYMENT_CHECK;
+            case LOAN_AMOUNT_CHECK:
+                return RuleNode.LOAN_AMOUNT_CHECK;
+            default:
+                throw new IllegalArgumentException("Unknown rule opcode " + op);
+        }
+    }
+
+    static RejectionReason reasonFor(int op) {
+        switch (op) {
+            case INCOME_CHECK:
+                return RejectionReason.INCOME_TOO_LOW;
+            case DEBT_CHECK:
+                return RejectionReason.DEBT_RATIO_TOO_HIGH;
+            case CREDIT_CHECK:
+                return RejectionReason.CREDIT_SCORE_TOO_LOW;
+            case EMPLOYMENT_CHECK:
+                return RejectionReason.EMPLOYMENT_TOO_SHORT;
+            case LOAN_AMOUNT_CHECK:
+                return RejectionReason.LOAN_AMOUNT_TOO_HIGH;
+            default:
+                throw new IllegalArgumentException("Unknown rule opcode " + op);
+        }
+    }
+
+    // Shared with the engine's loop; never modified after construction
+    int[] ops() {
+        return ops;
+    }
+
+    public List<RuleNode> getChecks() {
+        return checks;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Start");
+        for (RuleNode check : checks) {
+            sb.append(" → ").append(check.getLabel());
+        }
+        return sb.append(" → Eligible").toString();
+    }
+}
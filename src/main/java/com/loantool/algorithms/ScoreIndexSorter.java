@@ -0,0 +1,130 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts applicants by risk score (descending, stable, same order as MergeSorter) without
+ * comparing Applicant objects. Each score is read once into a long[] key, next to an int[]
+ * of positions; the merge sort moves and compares only those primitive pairs, and the
+ * applicants are permuted once at the end.
+ *
+ * A key is the score's bit pattern remapped so that signed long order matches
+ * Double.compare (NaN above +Infinity, -0.0 below 0.0), then inverted for descending order.
+ */
+public class ScoreIndexSorter {
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Drop-in for MergeSorter.sort
+    public List<Applicant> sort(List<Applicant> applicants) {
+        if (applicants.size() <= 1) {
+            return new ArrayList<>(applicants);
+        }
+
+        Applicant[] array = applicants.toArray(new Applicant[0]);
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = sortKey(array[i].getRiskScore());
+        }
+        int[] order = sortedPositions(keys);
+
+        List<Applicant> sorted = new ArrayList<>(array.length);
+        for (int position : order) {
+            sorted.add(array[position]);
+        }
+        return sorted;
+    }
+
+    // Sorts row indices of an applicant store by risk score (descending), like MergeSorter.sortRows
+    public int[] sortRows(ApplicantStore store, int[] rows) {
+        if (rows.length <= 1) {
+            return rows.clone();
+        }
+
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = sortKey(store.getRiskScore(rows[i]));
+        }
+        int[] order = sortedPositions(keys);
+
+        int[] sorted = new int[rows.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = rows[order[i]];
+        }
+        return sorted;
+    }
+
+    // Ascending key order is descending Double.compare order of the scores
+    static long sortKey(double score) {
+        long bits = Double.doubleToLongBits(score);
+        return ~(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    // Positions 0..n-1 ordered by key; sorts keys in place
+    private static int[] sortedPositions(long[] keys) {
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        mergeSort(keys.clone(), order.clone(), keys, order, 0, keys.length);
+        return order;
+    }
+
+    // Sorts dst[from, to); src holds the same pairs on entry and is used as scratch
+    private static void mergeSort(long[] srcKeys, int[] srcOrder, long[] dstKeys, int[] dstOrder, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(dstKeys, dstOrder, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(dstKeys, dstOrder, srcKeys, srcOrder, from, mid);
+        mergeSort(dstKeys, dstOrder, srcKeys, srcOrder, mid, to);
+
+        if (srcKeys[mid - 1] <= srcKeys[mid]) {
+            System.arraycopy(srcKeys, from, dstKeys, from, to - from);
+            System.arraycopy(srcOrder, from, dstOrder, from, to - from);
+            return;
+        }
+
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            if (srcKeys[i] <= srcKeys[j]) {
+                dstKeys[k] = srcKeys[i];
+                dstOrder[k++] = srcOrder[i++];
+            } else {
+                dstKeys[k] = srcKeys[j];
+                dstOrder[k++] = srcOrder[j++];
+            }
+        }
+
+        if (i < mid) {
+            System.arraycopy(srcKeys, i, dstKeys, k, mid - i);
+            System.arraycopy(srcOrder, i, dstOrder, k, mid - i);
+        } else {
+            System.arraycopy(srcKeys, j, dstKeys, k, to - j);
+            System.arraycopy(srcOrder, j, dstOrder, k, to - j);
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] order, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int position = order[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = position;
+        }
+    }
+
+    // Time Complexity: O(n log n) comparisons of primitive keys, one pass to permute applicants
+    // Space Complexity: O(n) - two key arrays and two position arrays
+}
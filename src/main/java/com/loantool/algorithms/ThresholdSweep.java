@@ -0,0 +1,181 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.RiskTier;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Answers "what if the minimum income (or credit score) were t?" for any t in O(log n).
+ *
+ * Built once: every applicant is checked against all the other rules of a base RulesConfig
+ * and, if it passes them, scored and classified. The swept value of those applicants is
+ * sorted, once for all of them and once each for the high-risk and the approved ones. An
+ * applicant passes the swept rule exactly when its value is not below t, so the number of
+ * eligible (high-risk, approved) applicants at t is the length of the sorted array minus
+ * the lower bound of t: the sorted arrays are the cumulative counts.
+ *
+ * The comparisons match EligibilityEngine's, so the counts equal a full evaluation with
+ * the swept threshold set to t.
+ */
+public class ThresholdSweep {
+
+    public enum Dimension {
+        MONTHLY_INCOME,
+        CREDIT_SCORE
+    }
+
+    private final Dimension dimension;
+    private final int totalCount;
+    private final double[] eligibleValues;
+    private final double[] highRiskValues;
+    private final double[] approvedValues;
+
+    private ThresholdSweep(Dimension dimension, int totalCount, double[] eligibleValues,
+                           double[] highRiskValues, double[] approvedValues) {
+        this.dimension = dimension;
+        this.totalCount = totalCount;
+        this.eligibleValues = eligibleValues;
+        this.highRiskValues = highRiskValues;
+        this.approvedValues = approvedValues;
+    }
+
+    public static ThresholdSweep build(List<Applicant> applicants, Dimension dimension) {
+        return build(applicants, dimension, RulesConfig.getInstance());
+    }
+
+    public static ThresholdSweep build(List<Applicant> applicants, Dimension dimension, RulesConfig config) {
+        Builder builder = new Builder(dimension, config, applicants.size());
+        for (Applicant applicant : applicants) {
+            builder.add(applicant.getMonthlyIncome(), applicant.getExistingDebt(), applicant.getDebtToIncomeRatio(),
+                    applicant.getCreditScore(), applicant.getEmploymentDuration(), applicant.getLoanAmountRequested());
+        }
+        return builder.build();
+    }
+
+    public static ThresholdSweep build(ApplicantStore store, Dimension dimension, RulesConfig config) {
+        Builder builder = new Builder(dimension, config, store.size());
+        for (int row = 0; row < store.size(); row++) {
+            builder.add(store.getMonthlyIncome(row), store.getExistingDebt(row), store.getDebtToIncomeRatio(row),
+                    store.getCreditScore(row), store.getEmploymentDuration(row), store.getLoanAmountRequested(row));
+        }
+        return builder.build();
+    }
+
+    // Collects the swept values of applicants that pass every other rule
+    private static class Builder {
+        final Dimension dimension;
+        final RulesSnapshot rules;
+        final RiskTierTable tierTable;
+        final int totalCount;
+        double[] eligible;
+        double[] highRisk;
+        double[] approved;
+        int eligibleCount;
+        int highRiskCount;
+        int approvedCount;
+
+        Builder(Dimension dimension, RulesConfig config, int totalCount) {
+            this.dimension = dimension;
+            this.rules = config.getSnapshot();
+            this.tierTable = RiskTierTable.forSnapshot(rules);
+            this.totalCount = totalCount;
+            this.eligible = new double[totalCount];
+            this.highRisk = new double[totalCount];
+            this.approved = new double[totalCount];
+        }
+
+        void add(double monthlyIncome, double existingDebt, double debtRatio, int creditScore,
+                 int employmentDuration, double loanAmountRequested) {
+            boolean sweepIncome = dimension == Dimension.MONTHLY_INCOME;
+            if ((!sweepIncome && monthlyIncome < rules.getMinIncomeThreshold())
+                    || debtRatio > rules.getMaxDebtToIncomeRatio()
+                    || (sweepIncome && creditScore < rules.getMinCreditScore())
+                    || employmentDuration < rules.getMinEmploymentMonths()
+                    || loanAmountRequested / monthlyIncome > rules.getMaxLoanToIncomeRatio()) {
+                return;
+            }
+
+            double value = sweepIncome ? monthlyIncome : creditScore;
+            double score = Applicant.computeRiskScore(monthlyIncome, existingDebt, creditScore);
+            RiskTier tier = tierTable.tierFor(score);
+
+            eligible[eligibleCount++] = value;
+            if (tier == RiskTier.HIGH_RISK) {
+                highRisk[highRiskCount++] = value;
+            }
+            if (RiskClassifier.isApproved(tier, score)) {
+                approved[approvedCount++] = value;
+            }
+        }
+
+        ThresholdSweep build() {
+            double[] eligibleValues = Arrays.copyOf(eligible, eligibleCount);
+            double[] highRiskValues = Arrays.copyOf(highRisk, highRiskCount);
+            double[] approvedValues = Arrays.copyOf(approved, approvedCount);
+            Arrays.sort(eligibleValues);
+            Arrays.sort(highRiskValues);
+            Arrays.sort(approvedValues);
+            return new ThresholdSweep(dimension, totalCount, eligibleValues, highRiskValues, approvedValues);
+        }
+    }
+
+    // Number of values v with v >= threshold, i.e. !(v < threshold) like the engine (NaN sorts last and passes)
+    private static int countPassing(double[] sortedValues, double threshold) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < threshold) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return sortedValues.length - low;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getEligibleCount(double threshold) {
+        return countPassing(eligibleValues, threshold);
+    }
+
+    public int getHighRiskCount(double threshold) {
+        return countPassing(highRiskValues, threshold);
+    }
+
+    public int getApprovedCount(double threshold) {
+        return countPassing(approvedValues, threshold);
+    }
+
+    // Percentage of all applicants that are eligible at the threshold
+    public double getApprovalRate(double threshold) {
+        return totalCount > 0 ? (getEligibleCount(threshold) * 100.0) / totalCount : 0;
+    }
+
+    // Percentage of eligible applicants that are high risk at the threshold
+    public double getHighRiskRate(double threshold) {
+        int eligibleCount = getEligibleCount(threshold);
+        return eligibleCount > 0 ? (getHighRiskCount(threshold) * 100.0) / eligibleCount : 0;
+    }
+
+    // Evenly spaced thresholds from..to (inclusive), for continuous curves
+    public static double[] thresholds(double from, double to, int points) {
+        double[] thresholds = new double[points];
+        for (int i = 0; i < points; i++) {
+            thresholds[i] = points == 1 ? from : from + (to - from) * i / (points - 1);
+        }
+        return thresholds;
+    }
+}
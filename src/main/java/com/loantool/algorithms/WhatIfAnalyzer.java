@@ -0,0 +1,158 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.RiskTier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates many candidate rule sets (RulesConfig variants, see RulesConfig.copy()) in a
+ * single pass over the applicants. Each applicant's fields, ratios and risk score are
+ * computed once and then run through the rule pipeline with every variant's snapshot.
+ * Nothing is mutated: neither the applicants nor the RulesConfig singleton.
+ *
+ * Eligibility runs the same pipeline checks as EligibilityEngine (EligibilityEngine.passes),
+ * tiers a RiskTierTable per variant (same lookup as RiskClassifier), and approval
+ * RiskClassifier.isApproved.
+ */
+public class WhatIfAnalyzer {
+    private final int[] ops;
+
+    public WhatIfAnalyzer() {
+        this(RulePipeline.defaultPipeline());
+    }
+
+    public WhatIfAnalyzer(RulePipeline pipeline) {
+        this.ops = pipeline.ops();
+    }
+
+    public List<VariantResult> evaluate(List<Applicant> applicants, List<RulesConfig> variants) {
+        Variants state = new Variants(ops, variants);
+        for (Applicant applicant : applicants) {
+            state.accumulate(applicant.getMonthlyIncome(), applicant.getExistingDebt(),
+                    applicant.getDebtToIncomeRatio(), applicant.getCreditScore(),
+                    applicant.getEmploymentDuration(), applicant.getLoanAmountRequested());
+        }
+        return state.results(applicants.size());
+    }
+
+    public List<VariantResult> evaluate(ApplicantStore store, List<RulesConfig> variants) {
+        Variants state = new Variants(ops, variants);
+        for (int row = 0; row < store.size(); row++) {
+            state.accumulate(store.getMonthlyIncome(row), store.getExistingDebt(row),
+                    store.getDebtToIncomeRatio(row), store.getCreditScore(row),
+                    store.getEmploymentDuration(row), store.getLoanAmountRequested(row));
+        }
+        return state.results(store.size());
+    }
+
+    // Snapshot and tier table of each variant, plus their running counts
+    private static class Variants {
+        final int[] ops;
+        final List<RulesConfig> configs;
+        final RulesSnapshot[] rules;
+        final RiskTierTable[] tierTables;
+
+        final int[] eligible;
+        final int[] approved;
+        final int[][] tierCounts;
+
+        Variants(int[] ops, List<RulesConfig> configs) {
+            int count = configs.size();
+            this.ops = ops;
+            this.configs = configs;
+            rules = new RulesSnapshot[count];
+            tierTables = new RiskTierTable[count];
+            eligible = new int[count];
+            approved = new int[count];
+            tierCounts = new int[count][RiskTier.values().length];
+
+            for (int v = 0; v < count; v++) {
+                rules[v] = configs.get(v).getSnapshot();
+                tierTables[v] = RiskTierTable.forSnapshot(rules[v]);
+            }
+        }
+
+        void accumulate(double monthlyIncome, double existingDebt, double debtRatio, int creditScore,
+                        int employmentDuration, double loanAmountRequested) {
+            double score = Double.NaN; // Only scored once some variant finds it eligible
+
+            for (int v = 0; v < rules.length; v++) {
+                if (!EligibilityEngine.passes(rules[v], ops, monthlyIncome, debtRatio, creditScore,
+                        employmentDuration, loanAmountRequested)) {
+                    continue;
+                }
+
+                eligible[v]++;
+                if (Double.isNaN(score)) {
+                    score = Applicant.computeRiskScore(monthlyIncome, existingDebt, creditScore);
+                }
+                RiskTier tier = tierTables[v].tierFor(score);
+                tierCounts[v][tier.ordinal()]++;
+                if (RiskClassifier.isApproved(tier, score)) {
+                    approved[v]++;
+                }
+            }
+        }
+
+        List<VariantResult> results(int evaluated) {
+            List<VariantResult> results = new ArrayList<>(configs.size());
+            for (int v = 0; v < configs.size(); v++) {
+                results.add(new VariantResult(configs.get(v), evaluated, eligible[v], approved[v], tierCounts[v]));
+            }
+            return results;
+        }
+    }
+
+    public static class VariantResult {
+        private final RulesConfig config;
+        private final int evaluatedCount;
+        private final int eligibleCount;
+        private final int approvedCount;
+        private final int[] tierCounts;
+
+        VariantResult(RulesConfig config, int evaluatedCount, int eligibleCount, int approvedCount, int[] tierCounts) {
+            this.config = config;
+            this.evaluatedCount = evaluatedCount;
+            this.eligibleCount = eligibleCount;
+            this.approvedCount = approvedCount;
+            this.tierCounts = tierCounts;
+        }
+
+        public RulesConfig getConfig() {
+            return config;
+        }
+
+        public int getEvaluatedCount() {
+            return evaluatedCount;
+        }
+
+        public int getEligibleCount() {
+            return eligibleCount;
+        }
+
+        // Approved among the eligible (RiskClassifier.isApproved)
+        public int getApprovedCount() {
+            return approvedCount;
+        }
+
+        // Tier of the eligible applicants
+        public int getTierCount(RiskTier tier) {
+            return tierCounts[tier.ordinal()];
+        }
+
+        // Percentage of all evaluated applicants that are eligible
+        public double getEligibilityRate() {
+            return evaluatedCount > 0 ? (eligibleCount * 100.0) / evaluatedCount : 0;
+        }
+
+        // Percentage of eligible applicants in the given tier
+        public double getTierRate(RiskTier tier) {
+            return eligibleCount > 0 ? (getTierCount(tier) * 100.0) / eligibleCount : 0;
+        }
+    }
+}
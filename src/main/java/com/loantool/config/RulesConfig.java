@@ -1,94 +1,157 @@
 package com.loantool.config;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the rules currently in force as an immutable RulesSnapshot behind an atomic
+ * reference. Readers that need consistent thresholds (a whole batch, say) take one
+ * snapshot with getSnapshot() and use it throughout; setters publish a new snapshot
+ * instead of changing fields under running evaluations.
+ */
 public class RulesConfig {
-    private static RulesConfig instance;
+    // System property naming a rules file to load and watch at startup
+    public static final String RULES_FILE_PROPERTY = "loantool.rules";
+    // Rules bundled with the application, used when no rules file is given
+    public static final String DEFAULT_RULES_RESOURCE = "/thresholds.json";
 
-    // Default rules
-    private double minIncomeThreshold = 2000.0;
-    private double maxDebtToIncomeRatio = 0.4;
-    private int minCreditScore = 600;
-    private int minEmploymentMonths = 6;
-    private double maxLoanToIncomeRatio = 2.0;
-    private int[] riskThresholds = { 80, 50 }; // [Low, Medium]
+    private static final RulesConfig instance = new RulesConfig(RulesSnapshot.defaults());
 
-    private RulesConfig() {
+    private final AtomicReference<RulesSnapshot> snapshot;
+
+    private RulesConfig(RulesSnapshot snapshot) {
         // Private constructor for singleton
+        this.snapshot = new AtomicReference<>(snapshot);
     }
 
-    public static synchronized RulesConfig getInstance() {
-        if (instance == null) {
-            instance = new RulesConfig();
-        }
+    public static RulesConfig getInstance() {
         return instance;
     }
 
+    // Independent copy of the current rules, e.g. a what-if variant; changing it does not affect the singleton
+    public RulesConfig copy() {
+        return new RulesConfig(snapshot.get());
+    }
+
+    // The rules in force right now; immutable, so safe to use for a whole batch
+    public RulesSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public void publish(RulesSnapshot rules) {
+        snapshot.set(rules);
+    }
+
+    // Applies a change atomically, retrying if another thread published in between
+    public RulesSnapshot update(UnaryOperator<RulesSnapshot> change) {
+        return snapshot.updateAndGet(change);
+    }
+
+    // Replaces the current rules with the ones in a JSON or properties file (see RulesFileLoader)
+    public RulesSnapshot loadFromFile(String filePath) throws IOException {
+        RulesSnapshot rules = RulesFileLoader.load(Paths.get(filePath));
+        publish(rules);
+        return rules;
+    }
+
+    // Loads the file, then keeps reloading it whenever it changes until the watcher is closed
+    public RulesFileWatcher watchFile(String filePath) throws IOException {
+        loadFromFile(filePath);
+        return new RulesFileWatcher(this, Paths.get(filePath));
+    }
+
+    /**
+     * Startup rules: rulesFile, or if that is null the file named by -Dloantool.rules, loaded
+     * and then watched for changes; without one, the bundled thresholds.json. If neither
+     * loads, the error is reported and the compiled-in defaults stay. Returns the watcher,
+     * or null when no file is watched.
+     */
+    public RulesFileWatcher loadStartupRules(String rulesFile) {
+        String filePath = rulesFile != null ? rulesFile : System.getProperty(RULES_FILE_PROPERTY);
+        if (filePath != null) {
+            try {
+                RulesFileWatcher watcher = watchFile(filePath);
+                System.out.println("📋 Rules loaded from " + filePath + ", watching for changes");
+                return watcher;
+            } catch (IOException e) {
+                System.err.println("Rules file " + filePath + " not applied: " + e.getMessage());
+            }
+        }
+
+        try {
+            publish(RulesFileLoader.loadResource(DEFAULT_RULES_RESOURCE));
+        } catch (IOException e) {
+            System.err.println("Bundled rules not applied, using defaults: " + e.getMessage());
+        }
+        return null;
+    }
+
     public void displayRules() {
+        RulesSnapshot rules = snapshot.get();
+        int[] riskThresholds = rules.getRiskThresholds();
         System.out.println("\n📋 CURRENT RULES CONFIGURATION");
         System.out.println("==============================");
-        System.out.printf("Minimum Income: $%.2f\n", minIncomeThreshold);
-        System.out.printf("Max Debt-to-Income Ratio: %.1f%%\n", maxDebtToIncomeRatio * 100);
-        System.out.printf("Minimum Credit Score: %d\n", minCreditScore);
-        System.out.printf("Minimum Employment: %d months\n", minEmploymentMonths);
-        System.out.printf("Max Loan-to-Income Ratio: %.1f\n", maxLoanToIncomeRatio);
+        System.out.printf("Minimum Income: $%.2f\n", rules.getMinIncomeThreshold());
+        System.out.printf("Max Debt-to-Income Ratio: %.1f%%\n", rules.getMaxDebtToIncomeRatio() * 100);
+        System.out.printf("Minimum Credit Score: %d\n", rules.getMinCreditScore());
+        System.out.printf("Minimum Employment: %d months\n", rules.getMinEmploymentMonths());
+        System.out.printf("Max Loan-to-Income Ratio: %.1f\n", rules.getMaxLoanToIncomeRatio());
         System.out.println("Risk Thresholds: Low≥" + riskThresholds[0] +
                 ", Medium≥" + riskThresholds[1] + ", High<" + riskThresholds[1]);
     }
 
     public void resetToDefaults() {
-        minIncomeThreshold = 2000.0;
-        maxDebtToIncomeRatio = 0.4;
-        minCreditScore = 600;
-        minEmploymentMonths = 6;
-        maxLoanToIncomeRatio = 2.0;
-        riskThresholds = new int[] { 80, 50 };
+        snapshot.set(RulesSnapshot.defaults());
     }
 
-    // Getters and Setters
+    // Getters and Setters (each getter reads the current snapshot)
     public double getMinIncomeThreshold() {
-        return minIncomeThreshold;
+        return snapshot.get().getMinIncomeThreshold();
     }
 
     public void setMinIncomeThreshold(double threshold) {
-        this.minIncomeThreshold = threshold;
+        update(rules -> rules.withMinIncomeThreshold(threshold));
     }
 
     public double getMaxDebtToIncomeRatio() {
-        return maxDebtToIncomeRatio;
+        return snapshot.get().getMaxDebtToIncomeRatio();
     }
 
     public void setMaxDebtToIncomeRatio(double ratio) {
-        this.maxDebtToIncomeRatio = ratio;
+        update(rules -> rules.withMaxDebtToIncomeRatio(ratio));
     }
 
     public int getMinCreditScore() {
-        return minCreditScore;
+        return snapshot.get().getMinCreditScore();
     }
 
     public void setMinCreditScore(int score) {
-        this.minCreditScore = score;
+        update(rules -> rules.withMinCreditScore(score));
     }
 
     public int getMinEmploymentMonths() {
-        return minEmploymentMonths;
+        return snapshot.get().getMinEmploymentMonths();
     }
 
     public void setMinEmploymentMonths(int months) {
-        this.minEmploymentMonths = months;
+        update(rules -> rules.withMinEmploymentMonths(months));
     }
 
     public double getMaxLoanToIncomeRatio() {
-        return maxLoanToIncomeRatio;
+        return snapshot.get().getMaxLoanToIncomeRatio();
     }
 
     public void setMaxLoanToIncomeRatio(double ratio) {
-        this.maxLoanToIncomeRatio = ratio;
+        update(rules -> rules.withMaxLoanToIncomeRatio(ratio));
     }
 
     public int[] getRiskThresholds() {
-        return riskThresholds.clone();
+        return snapshot.get().getRiskThresholds();
     }
 
     public void setRiskThresholds(int[] thresholds) {
-        this.riskThresholds = thresholds.clone();
+        update(rules -> rules.withRiskThresholds(thresholds));
     }
-}
\ No newline at end of file
+}
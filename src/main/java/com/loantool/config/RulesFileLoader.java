@@ -0,0 +1,144 @@
+package com.loantool.config;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Reads a rule set from a JSON (*.json) or properties file (anything else). Both use the
+ * RulesConfig property names; missing keys keep their default value.
+ *
+ * JSON:        { "minIncomeThreshold": 2000.0, ..., "riskThresholds": [80, 50] }
+ * Properties:  minIncomeThreshold=2000.0 ... riskThresholds=80,50
+ *
+ * The result is validated, so a half-written or mistyped file never becomes a snapshot.
+ */
+public class RulesFileLoader {
+    static final String MIN_INCOME = "minIncomeThreshold";
+    static final String MAX_DEBT_RATIO = "maxDebtToIncomeRatio";
+    static final String MIN_CREDIT_SCORE = "minCreditScore";
+    static final String MIN_EMPLOYMENT = "minEmploymentMonths";
+    static final String MAX_LOAN_RATIO = "maxLoanToIncomeRatio";
+    static final String RISK_THRESHOLDS = "riskThresholds";
+
+    public static RulesSnapshot load(Path path) throws IOException {
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        return parse(path.getFileName().toString(), path.toString(), content);
+    }
+
+    // Reads a rules file bundled on the classpath, e.g. "/thresholds.json"
+    public static RulesSnapshot loadResource(String resource) throws IOException {
+        try (InputStream in = RulesFileLoader.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Rules resource not found on the classpath: " + resource);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return parse(resource, "classpath:" + resource, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static RulesSnapshot parse(String fileName, String source, String content) throws IOException {
+        if (content.trim().isEmpty()) {
+            throw new IOException("Rules file is empty: " + source);
+        }
+
+        try {
+            RulesSnapshot rules = isJson(fileName) ? fromJson(content) : fromProperties(content);
+            return rules.validate();
+        } catch (JSONException | IllegalArgumentException e) {
+            throw new IOException("Invalid rules file " + source + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isJson(String fileName) {
+        return fileName.toLowerCase().endsWith(".json");
+    }
+
+    private static RulesSnapshot fromJson(String content) {
+        RulesSnapshot defaults = RulesSnapshot.defaults();
+        JSONObject obj = new JSONObject(content);
+
+        int[] riskThresholds = defaults.getRiskThresholds();
+        JSONArray thresholds = obj.optJSONArray(RISK_THRESHOLDS);
+        if (thresholds != null) {
+            riskThresholds = new int[thresholds.length()];
+            for (int i = 0; i < riskThresholds.length; i++) {
+                riskThresholds[i] = thresholds.getInt(i);
+            }
+        }
+
+        return new RulesSnapshot(
+                obj.has(MIN_INCOME) ? obj.getDouble(MIN_INCOME) : defaults.getMinIncomeThreshold(),
+                obj.has(MAX_DEBT_RATIO) ? obj.getDouble(MAX_DEBT_RATIO) : defaults.getMaxDebtToIncomeRatio(),
+                obj.has(MIN_CREDIT_SCORE) ? obj.getInt(MIN_CREDIT_SCORE) : defaults.getMinCreditScore(),
+                obj.has(MIN_EMPLOYMENT) ? obj.getInt(MIN_EMPLOYMENT) : defaults.getMinEmploymentMonths(),
+                obj.has(MAX_LOAN_RATIO) ? obj.getDouble(MAX_LOAN_RATIO) : defaults.getMaxLoanToIncomeRatio(),
+                riskThresholds);
+    }
+
+    private static RulesSnapshot fromProperties(String content) throws IOException {
+        RulesSnapshot defaults = RulesSnapshot.defaults();
+        Properties properties = new Properties();
+        try (Reader reader = new StringReader(content)) {
+            properties.load(reader);
+        }
+
+        int[] riskThresholds = defaults.getRiskThresholds();
+        String thresholds = properties.getProperty(RISK_THRESHOLDS);
+        if (thresholds != null) {
+            String[] parts = thresholds.split(",");
+            riskThresholds = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                riskThresholds[i] = parseInt(RISK_THRESHOLDS, parts[i]);
+            }
+        }
+
+        return new RulesSnapshot(
+                getDouble(properties, MIN_INCOME, defaults.getMinIncomeThreshold()),
+                getDouble(properties, MAX_DEBT_RATIO, defaults.getMaxDebtToIncomeRatio()),
+                getInt(properties, MIN_CREDIT_SCORE, defaults.getMinCreditScore()),
+                getInt(properties, MIN_EMPLOYMENT, defaults.getMinEmploymentMonths()),
+                getDouble(properties, MAX_LOAN_RATIO, defaults.getMaxLoanToIncomeRatio()),
+                riskThresholds);
+    }
+
+    private static double getDouble(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not a number: " + value);
+        }
+    }
+
+    private static int getInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : parseInt(key, value);
+    }
+
+    private static int parseInt(String key, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not an integer: " + value);
+        }
+    }
+}
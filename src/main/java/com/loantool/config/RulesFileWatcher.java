@@ -0,0 +1,123 @@
+package com.loantool.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Reloads a rules file whenever it changes and publishes the new snapshot to a RulesConfig.
+ * Runs on its own daemon thread; publishing is a single atomic swap, so batches already
+ * running finish with the snapshot they started with and the next batch picks up the new
+ * rules. A file that fails to load or validate, or any other error while handling an
+ * event, is reported and the current rules stay; the watcher keeps running.
+ */
+public class RulesFileWatcher implements Closeable {
+    // Editors often write a file in several steps; wait for it to settle before reading
+    private static final long SETTLE_MILLIS = 100;
+
+    private final RulesConfig config;
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile int reloadCount;
+    private volatile String lastError;
+
+    public RulesFileWatcher(RulesConfig config, Path file) throws IOException {
+        this.config = config;
+        this.file = file.toAbsolutePath();
+        this.watchService = this.file.getFileSystem().newWatchService();
+        try {
+            // Watch the directory: replacing the file (write to temp + rename) must be seen too
+            this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::watch, "rules-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = isRulesFileEvent(key);
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+
+                Thread.sleep(SETTLE_MILLIS);
+                // Events that arrived while settling are covered by this reload
+                WatchKey pending;
+                while ((pending = watchService.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    // Never let one bad event end the watch; the current rules stay
+                    lastError = e.toString();
+                    System.err.println("Rules file not applied, keeping current rules: " + e);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private boolean isRulesFileEvent(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // Loads the file now; returns false (and keeps the current rules) if it is invalid
+    public boolean reload() {
+        try {
+            RulesSnapshot rules = RulesFileLoader.load(file);
+            config.publish(rules);
+            reloadCount++;
+            lastError = null;
+            System.out.println("🔄 Rules reloaded from " + file + " (version " + rules.getVersion() + ")");
+            return true;
+        } catch (IOException | RuntimeException e) {
+            lastError = e.getMessage();
+            System.err.println("Rules file not applied, keeping current rules: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getReloadCount() {
+        return reloadCount;
+    }
+
+    // Message of the last failed reload, or null if the last reload succeeded
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
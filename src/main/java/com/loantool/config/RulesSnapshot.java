@@ -0,0 +1,135 @@
+package com.loantool.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable set of rule thresholds. Every snapshot gets a version from one global sequence,
+ * so two snapshots with the same version are the same rules and caches can key on it.
+ * Changes are made by creating a new snapshot (the with* methods) and publishing it
+ * through RulesConfig.
+ */
+public final class RulesSnapshot {
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+    private final double minIncomeThreshold;
+    private final double maxDebtToIncomeRatio;
+    private final int minCreditScore;
+    private final int minEmploymentMonths;
+    private final double maxLoanToIncomeRatio;
+    private final int[] riskThresholds; // [Low, Medium]
+
+    public RulesSnapshot(double minIncomeThreshold, double maxDebtToIncomeRatio, int minCreditScore,
+                         int minEmploymentMonths, double maxLoanToIncomeRatio, int[] riskThresholds) {
+        this.version = VERSIONS.incrementAndGet();
+        this.minIncomeThreshold = minIncomeThreshold;
+        this.maxDebtToIncomeRatio = maxDebtToIncomeRatio;
+        this.minCreditScore = minCreditScore;
+        this.minEmploymentMonths = minEmploymentMonths;
+        this.maxLoanToIncomeRatio = maxLoanToIncomeRatio;
+        this.riskThresholds = riskThresholds.clone();
+    }
+
+    // Default rules
+    public static RulesSnapshot defaults() {
+        return new RulesSnapshot(2000.0, 0.4, 600, 6, 2.0, new int[] { 80, 50 });
+    }
+
+    public RulesSnapshot withMinIncomeThreshold(double threshold) {
+        return new RulesSnapshot(threshold, maxDebtToIncomeRatio, minCreditScore,
+                minEmploymentMonths, maxLoanToIncomeRatio, riskThresholds);
+    }
+
+    public RulesSnapshot withMaxDebtToIncomeRatio(double ratio) {
+        return new RulesSnapshot(minIncomeThreshold, ratio, minCreditScore,
+                minEmploymentMonths, maxLoanToIncomeRatio, riskThresholds);
+    }
+
+    public RulesSnapshot withMinCreditScore(int score) {
+        return new RulesSnapshot(minIncomeThreshold, maxDebtToIncomeRatio, score,
+                minEmploymentMonths, maxLoanToIncomeRatio, riskThresholds);
+    }
+
+    public RulesSnapshot withMinEmploymentMonths(int months) {
+        return new RulesSnapshot(minIncomeThreshold, maxDebtToIncomeRatio, minCreditScore,
+                months, maxLoanToIncomeRatio, riskThresholds);
+    }
+
+    public RulesSnapshot withMaxLoanToIncomeRatio(double ratio) {
+        return new RulesSnapshot(minIncomeThreshold, maxDebtToIncomeRatio, minCreditScore,
+                minEmploymentMonths, ratio, riskThresholds);
+    }
+
+    public RulesSnapshot withRiskThresholds(int[] thresholds) {
+        return new RulesSnapshot(minIncomeThreshold, maxDebtToIncomeRatio, minCreditScore,
+                minEmploymentMonths, maxLoanToIncomeRatio, thresholds);
+    }
+
+    // Rejects rule sets the engine and classifier cannot use; returns this snapshot when valid
+    public RulesSnapshot validate() {
+        List<String> errors = new ArrayList<>();
+        if (!(minIncomeThreshold >= 0) || Double.isInfinite(minIncomeThreshold)) {
+            errors.add("minIncomeThreshold must be a non-negative amount: " + minIncomeThreshold);
+        }
+        if (!(maxDebtToIncomeRatio > 0) || Double.isInfinite(maxDebtToIncomeRatio)) {
+            errors.add("maxDebtToIncomeRatio must be positive: " + maxDebtToIncomeRatio);
+        }
+        if (minCreditScore < 300 || minCreditScore > 850) {
+            errors.add("minCreditScore must be between 300 and 850: " + minCreditScore);
+        }
+        if (minEmploymentMonths < 0) {
+            errors.add("minEmploymentMonths must not be negative: " + minEmploymentMonths);
+        }
+        if (!(maxLoanToIncomeRatio > 0) || Double.isInfinite(maxLoanToIncomeRatio)) {
+            errors.add("maxLoanToIncomeRatio must be positive: " + maxLoanToIncomeRatio);
+        }
+        if (riskThresholds.length != 2) {
+            errors.add("riskThresholds must have two values [low, medium]: " + Arrays.toString(riskThresholds));
+        } else if (riskThresholds[0] <= riskThresholds[1] || riskThresholds[1] < 0 || riskThresholds[0] > 100) {
+            errors.add("riskThresholds must satisfy 100 >= low > medium >= 0: " + Arrays.toString(riskThresholds));
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid rules: " + String.join("; ", errors));
+        }
+        return this;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public double getMinIncomeThreshold() {
+        return minIncomeThreshold;
+    }
+
+    public double getMaxDebtToIncomeRatio() {
+        return maxDebtToIncomeRatio;
+    }
+
+    public int getMinCreditScore() {
+        return minCreditScore;
+    }
+
+    public int getMinEmploymentMonths() {
+        return minEmploymentMonths;
+    }
+
+    public double getMaxLoanToIncomeRatio() {
+        return maxLoanToIncomeRatio;
+    }
+
+    public int[] getRiskThresholds() {
+        return riskThresholds.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RulesSnapshot v%d [minIncome=%.2f, maxDTI=%.3f, minCredit=%d, minEmployment=%d, maxLTI=%.2f, risk=%s]",
+                version, minIncomeThreshold, maxDebtToIncomeRatio, minCreditScore, minEmploymentMonths,
+                maxLoanToIncomeRatio, Arrays.toString(riskThresholds));
+    }
+}
@@ -28,11 +28,30 @@ public class RulesFlowGraph {
     private final Map<RuleNode, List<RuleNode>> adjacencyList;
 
     public RulesFlowGraph() {
+        this(true);
+    }
+
+    private RulesFlowGraph(boolean defaultFlow) {
         adjacencyList = new EnumMap<>(RuleNode.class);
         for (RuleNode node : RuleNode.values()) {
             adjacencyList.put(node, new ArrayList<>());
         }
-        buildDefaultFlow();
+        if (defaultFlow) {
+            buildDefaultFlow();
+        }
+    }
+
+    // Flow that runs the given checks in order: each passes to the next or goes to REJECTED
+    public static RulesFlowGraph linear(RuleNode... checks) {
+        RulesFlowGraph graph = new RulesFlowGraph(false);
+        RuleNode previous = RuleNode.START;
+        for (RuleNode check : checks) {
+            graph.addEdge(previous, check);
+            graph.addEdge(check, RuleNode.REJECTED);
+            previous = check;
+        }
+        graph.addEdge(previous, RuleNode.ELIGIBLE);
+        return graph;
     }
 
     // Added secction to the decision tree to get FASLE
@@ -54,10 +73,53 @@ public class RulesFlowGraph {
         adjacencyList.get(from).add(to);
     }
 
+    public void removeEdge(RuleNode from, RuleNode to) {
+        adjacencyList.get(from).remove(to);
+    }
+
     public List<RuleNode> getNeighbors(RuleNode node) {
         return new ArrayList<>(adjacencyList.get(node));
     }
 
+    /**
+     * Returns the checks in execution order, following the pass edges (every edge that does
+     * not go to REJECTED) from START until ELIGIBLE. Fails if the flow branches, loops, never
+     * reaches ELIGIBLE, or contains a check that cannot reject.
+     */
+    public List<RuleNode> compile() {
+        List<RuleNode> checks = new ArrayList<>();
+        Set<RuleNode> visited = EnumSet.of(RuleNode.START);
+        RuleNode node = RuleNode.START;
+
+        while (true) {
+            RuleNode next = null;
+            for (RuleNode neighbor : adjacencyList.get(node)) {
+                if (neighbor == RuleNode.REJECTED) {
+                    continue;
+                }
+                if (next != null && next != neighbor) {
+                    throw new IllegalStateException(node.getLabel() + " has more than one pass edge");
+                }
+                next = neighbor;
+            }
+
+            if (next == null) {
+                throw new IllegalStateException("No path from " + node.getLabel() + " to Eligible");
+            }
+            if (next == RuleNode.ELIGIBLE) {
+                return checks;
+            }
+            if (!visited.add(next)) {
+                throw new IllegalStateException("Cycle in rule flow at " + next.getLabel());
+            }
+            if (!adjacencyList.get(next).contains(RuleNode.REJECTED)) {
+                throw new IllegalStateException(next.getLabel() + " has no edge to Rejected");
+            }
+            checks.add(next);
+            node = next;
+        }
+    }
+
     // BFS traversal from START to show the decision flow.
     public String bfsTraversal() {
         StringBuilder sb = new StringBuilder();
@@ -1,13 +1,17 @@
 package com.loantool.models;
 
 public class Applicant implements Comparable<Applicant> {
-    private String id;
-    private double monthlyIncome;
-    private double existingDebt;
-    private int creditScore;
-    private int employmentDuration; // months
-    private double loanAmountRequested;
+    // Bump whenever computeRiskScore changes, so scores cached under the old model are recalculated
+    public static final int SCORING_MODEL_VERSION = 1;
+
+    private final String id;
+    private final double monthlyIncome;
+    private final double existingDebt;
+    private final int creditScore;
+    private final int employmentDuration; // months
+    private final double loanAmountRequested;
     private double riskScore;
+    private int riskScoreVersion; // Model version riskScore was calculated with; 0 if unscored or set externally
     private boolean eligible;
 
     public Applicant(String id, double monthlyIncome, double existingDebt,
@@ -20,7 +24,19 @@ public class Applicant implements Comparable<Applicant> {
         this.loanAmountRequested = loanAmountRequested;
     }
 
+    // The scoring inputs are final, so a score calculated with the current model is reused
     public void calculateRiskScore() {
+        if (riskScoreVersion != SCORING_MODEL_VERSION) {
+            setCalculatedRiskScore(computeRiskScore(monthlyIncome, existingDebt, creditScore));
+        }
+    }
+
+    public boolean isRiskScoreCurrent() {
+        return riskScoreVersion == SCORING_MODEL_VERSION;
+    }
+
+    // Shared by the object and the columnar (ApplicantColumns) pipelines
+    public static double computeRiskScore(double monthlyIncome, double existingDebt, int creditScore) {
         // Weighted scoring algorithm
         double incomeWeight = (monthlyIncome / 5000) * 30; // Max 30 points
         double debtRatio = (existingDebt / monthlyIncome) * 100;
@@ -29,7 +45,7 @@ public class Applicant implements Comparable<Applicant> {
         double creditWeight = (creditScore - 300) / 5.5; // 300-850 → 0-100 points
         creditWeight = Math.min(40, Math.max(0, creditWeight)); // Max 40 points
 
-        this.riskScore = incomeWeight + debtWeight + creditWeight;
+        return incomeWeight + debtWeight + creditWeight;
     }
 
     public double getDebtToIncomeRatio() {
@@ -79,8 +95,16 @@ public class Applicant implements Comparable<Applicant> {
         this.eligible = eligible;
     }
 
+    // An externally supplied score (e.g. loaded from a file); calculateRiskScore() will replace it
     public void setRiskScore(double riskScore) {
         this.riskScore = riskScore;
+        this.riskScoreVersion = 0;
+    }
+
+    // For batch scorers that compute exactly computeRiskScore(monthlyIncome, existingDebt, creditScore)
+    public void setCalculatedRiskScore(double riskScore) {
+        this.riskScore = riskScore;
+        this.riskScoreVersion = SCORING_MODEL_VERSION;
     }
 
     @Override
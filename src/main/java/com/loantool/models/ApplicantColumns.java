@@ -0,0 +1,213 @@
+package com.loantool.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Struct-of-arrays store for applicants: one primitive array per field, indexed by row.
+ * Batch pipelines keep millions of rows here without an object header per applicant,
+ * and loops over a single field read contiguous memory.
+ *
+ * The backing arrays may be longer than size(); only rows [0, size()) are valid.
+ */
+public class ApplicantColumns implements ApplicantStore {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private String[] ids;
+    private double[] monthlyIncomes;
+    private double[] existingDebts;
+    private int[] creditScores;
+    private int[] employmentDurations;
+    private double[] loanAmountsRequested;
+    private double[] riskScores;
+    private boolean[] eligible;
+    private int size;
+
+    public ApplicantColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ApplicantColumns(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        ids = new String[capacity];
+        monthlyIncomes = new double[capacity];
+        existingDebts = new double[capacity];
+        creditScores = new int[capacity];
+        employmentDurations = new int[capacity];
+        loanAmountsRequested = new double[capacity];
+        riskScores = new double[capacity];
+        eligible = new boolean[capacity];
+    }
+
+    public static ApplicantColumns fromApplicants(List<Applicant> applicants) {
+        ApplicantColumns columns = new ApplicantColumns(applicants.size());
+        for (Applicant applicant : applicants) {
+            columns.add(applicant);
+        }
+        return columns;
+    }
+
+    // Appends a row and returns its index
+    public int add(String id, double monthlyIncome, double existingDebt,
+                   int creditScore, int employmentDuration, double loanAmountRequested) {
+        ensureCapacity(size + 1);
+        ids[size] = id;
+        monthlyIncomes[size] = monthlyIncome;
+        existingDebts[size] = existingDebt;
+        creditScores[size] = creditScore;
+        employmentDurations[size] = employmentDuration;
+        loanAmountsRequested[size] = loanAmountRequested;
+        return size++;
+    }
+
+    @Override
+    public int add(Applicant applicant) {
+        int row = add(applicant.getId(), applicant.getMonthlyIncome(), applicant.getExistingDebt(),
+                applicant.getCreditScore(), applicant.getEmploymentDuration(),
+                applicant.getLoanAmountRequested());
+        riskScores[row] = applicant.getRiskScore();
+        eligible[row] = applicant.isEligible();
+        return row;
+    }
+
+    // Appends count rows copied from column arrays (e.g. a block of a binary applicant file)
+    public void addAll(int count, String[] idColumn, double[] incomeColumn, double[] debtColumn,
+                       int[] creditColumn, int[] employmentColumn, double[] loanColumn) {
+        ensureCapacity(size + count);
+        System.arraycopy(idColumn, 0, ids, size, count);
+        System.arraycopy(incomeColumn, 0, monthlyIncomes, size, count);
+        System.arraycopy(debtColumn, 0, existingDebts, size, count);
+        System.arraycopy(creditColumn, 0, creditScores, size, count);
+        System.arraycopy(employmentColumn, 0, employmentDurations, size, count);
+        System.arraycopy(loanColumn, 0, loanAmountsRequested, size, count);
+        size += count;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        monthlyIncomes = Arrays.copyOf(monthlyIncomes, capacity);
+        existingDebts = Arrays.copyOf(existingDebts, capacity);
+        creditScores = Arrays.copyOf(creditScores, capacity);
+        employmentDurations = Arrays.copyOf(employmentDurations, capacity);
+        loanAmountsRequested = Arrays.copyOf(loanAmountsRequested, capacity);
+        riskScores = Arrays.copyOf(riskScores, capacity);
+        eligible = Arrays.copyOf(eligible, capacity);
+    }
+
+    @Override
+    public Applicant toApplicant(int row) {
+        Applicant applicant = new Applicant(ids[row], monthlyIncomes[row], existingDebts[row],
+                creditScores[row], employmentDurations[row], loanAmountsRequested[row]);
+        applicant.setRiskScore(riskScores[row]);
+        applicant.setEligible(eligible[row]);
+        return applicant;
+    }
+
+    public List<Applicant> toApplicants(int[] rows) {
+        List<Applicant> applicants = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            applicants.add(toApplicant(row));
+        }
+        return applicants;
+    }
+
+    @Override
+    public void calculateRiskScore(int row) {
+        riskScores[row] = Applicant.computeRiskScore(monthlyIncomes[row], existingDebts[row], creditScores[row]);
+    }
+
+    @Override
+    public double getDebtToIncomeRatio(int row) {
+        return monthlyIncomes[row] > 0 ? existingDebts[row] / monthlyIncomes[row] : Double.MAX_VALUE;
+    }
+
+    // Row accessors
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getId(int row) {
+        return ids[row];
+    }
+
+    @Override
+    public double getMonthlyIncome(int row) {
+        return monthlyIncomes[row];
+    }
+
+    @Override
+    public double getExistingDebt(int row) {
+        return existingDebts[row];
+    }
+
+    @Override
+    public int getCreditScore(int row) {
+        return creditScores[row];
+    }
+
+    @Override
+    public int getEmploymentDuration(int row) {
+        return employmentDurations[row];
+    }
+
+    @Override
+    public double getLoanAmountRequested(int row) {
+        return loanAmountsRequested[row];
+    }
+
+    @Override
+    public double getRiskScore(int row) {
+        return riskScores[row];
+    }
+
+    @Override
+    public void setRiskScore(int row, double riskScore) {
+        riskScores[row] = riskScore;
+    }
+
+    @Override
+    public boolean isEligible(int row) {
+        return eligible[row];
+    }
+
+    @Override
+    public void setEligible(int row, boolean value) {
+        eligible[row] = value;
+    }
+
+    // Backing arrays for batch kernels (valid up to size())
+    public double[] getMonthlyIncomes() {
+        return monthlyIncomes;
+    }
+
+    public double[] getExistingDebts() {
+        return existingDebts;
+    }
+
+    public int[] getCreditScores() {
+        return creditScores;
+    }
+
+    public int[] getEmploymentDurations() {
+        return employmentDurations;
+    }
+
+    public double[] getLoanAmountsRequested() {
+        return loanAmountsRequested;
+    }
+
+    public double[] getRiskScores() {
+        return riskScores;
+    }
+
+    public boolean[] getEligibleFlags() {
+        return eligible;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loantool.models;
+
+/**
+ * Row-indexed access to applicant fields, implemented by the on-heap ApplicantColumns and
+ * the off-heap OffHeapApplicantStore. Batch code (eligibility, scoring, sorting, reports)
+ * works against this interface so it does not care where the rows live.
+ */
+public interface ApplicantStore {
+
+    int size();
+
+    // Appends a row and returns its index
+    int add(Applicant applicant);
+
+    String getId(int row);
+
+    double getMonthlyIncome(int row);
+
+    double getExistingDebt(int row);
+
+    int getCreditScore(int row);
+
+    int getEmploymentDuration(int row);
+
+    double getLoanAmountRequested(int row);
+
+    double getRiskScore(int row);
+
+    void setRiskScore(int row, double riskScore);
+
+    boolean isEligible(int row);
+
+    void setEligible(int row, boolean eligible);
+
+    default double getDebtToIncomeRatio(int row) {
+        double income = getMonthlyIncome(row);
+        return income > 0 ? getExistingDebt(row) / income : Double.MAX_VALUE;
+    }
+
+    default void calculateRiskScore(int row) {
+        setRiskScore(row, Applicant.computeRiskScore(getMonthlyIncome(row), getExistingDebt(row),
+                getCreditScore(row)));
+    }
+
+    default void calculateRiskScores(int[] rows) {
+        for (int row : rows) {
+            calculateRiskScore(row);
+        }
+    }
+
+    // Creates an Applicant for one row, including its score and eligibility
+    default Applicant toApplicant(int row) {
+        Applicant applicant = new Applicant(getId(row), getMonthlyIncome(row), getExistingDebt(row),
+                getCreditScore(row), getEmploymentDuration(row), getLoanAmountRequested(row));
+        applicant.setRiskScore(getRiskScore(row));
+        applicant.setEligible(isEligible(row));
+        return applicant;
+    }
+}
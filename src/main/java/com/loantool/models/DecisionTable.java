@@ -0,0 +1,226 @@
+package com.loantool.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact store for large sets of loan decisions: one primitive column per field, keyed by
+ * the applicant's row in an ApplicantStore. A decision takes about 34 bytes (row, tier
+ * ordinal, approved flag, limit, rate, timestamp, reason code) instead of a LoanDecision
+ * with its Applicant, reason String and date objects, so millions of results can stay
+ * resident without adding to GC work.
+ *
+ * Reasons are codes: the classifier's "Risk Score: ..." reason is rebuilt from the row's
+ * risk score and tier, any other text is stored once in a table of distinct reasons.
+ *
+ * The table is read through its column accessors (getRiskTier(i), getRow(i), ...) and the
+ * ApplicantStore; it hands out no LoanDecision objects. Range queries, the audit trail and
+ * the result writers in FileHandler read the columns directly.
+ */
+public class DecisionTable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int SCORE_REASON = -1;
+    private static final int NO_REASON = -2;
+    private static final RiskTier[] TIERS = RiskTier.values();
+
+    private final ApplicantStore applicants;
+    private int[] rows;
+    private byte[] tiers;
+    private boolean[] approved;
+    private double[] recommendedLimits;
+    private double[] interestRates;
+    private long[] decisionTimes;
+    private int[] reasonCodes;
+    private int size;
+
+    private final List<String> reasons = new ArrayList<>();
+    private final Map<String, Integer> reasonCodesByText = new HashMap<>();
+
+    public DecisionTable(ApplicantStore applicants) {
+        this(applicants, DEFAULT_CAPACITY);
+    }
+
+    public DecisionTable(ApplicantStore applicants, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.applicants = applicants;
+        rows = new int[capacity];
+        tiers = new byte[capacity];
+        approved = new boolean[capacity];
+        recommendedLimits = new double[capacity];
+        interestRates = new double[capacity];
+        decisionTimes = new long[capacity];
+        reasonCodes = new int[capacity];
+    }
+
+    // Packs existing decisions, copying their applicants into a new ApplicantColumns store
+    public static DecisionTable fromDecisions(List<LoanDecision> decisions) {
+        ApplicantColumns columns = new ApplicantColumns(decisions.size());
+        DecisionTable table = new DecisionTable(columns, decisions.size());
+
+        for (LoanDecision decision : decisions) {
+            Applicant applicant = decision.getApplicant();
+            int row = columns.add(applicant);
+            boolean rowScoreReason = decision.hasScoreReason() && Double.doubleToRawLongBits(
+                    decision.getReasonScore()) == Double.doubleToRawLongBits(applicant.getRiskScore());
+
+            int index = table.append(row, decision.getRiskTier(), decision.isApproved(),
+                    decision.getRecommendedLimit(), decision.getInterestRate(), decision.getDecisionTimeMillis());
+            table.reasonCodes[index] = rowScoreReason ? SCORE_REASON : table.reasonCode(decision.getDecisionReason());
+        }
+        return table;
+    }
+
+    // Adds a decision with a custom reason; returns its index
+    public int add(int row, RiskTier riskTier, boolean isApproved, double recommendedLimit,
+                   double interestRate, long decisionTimeMillis, String reason) {
+        int index = append(row, riskTier, isApproved, recommendedLimit, interestRate, decisionTimeMillis);
+        reasonCodes[index] = reasonCode(reason);
+        return index;
+    }
+
+    // Adds a decision like LoanDecision.scored: base rate of the tier, limit from the row, score reason
+    public int addScored(int row, RiskTier riskTier, boolean isApproved, long decisionTimeMillis) {
+        double limit = LoanDecision.calculateRecommendedLimit(isApproved, riskTier,
+                applicants.getMonthlyIncome(row), applicants.getLoanAmountRequested(row));
+        int index = append(row, riskTier, isApproved, limit, riskTier.getBaseInterestRate(), decisionTimeMillis);
+        reasonCodes[index] = SCORE_REASON;
+        return index;
+    }
+
+    private int append(int row, RiskTier riskTier, boolean isApproved, double recommendedLimit,
+                       double interestRate, long decisionTimeMillis) {
+        ensureCapacity(size + 1);
+        rows[size] = row;
+        tiers[size] = (byte) riskTier.ordinal();
+        approved[size] = isApproved;
+        recommendedLimits[size] = recommendedLimit;
+        interestRates[size] = interestRate;
+        decisionTimes[size] = decisionTimeMillis;
+        return size++;
+    }
+
+    private int reasonCode(String reason) {
+        if (reason == null) {
+            return NO_REASON;
+        }
+        Integer code = reasonCodesByText.get(reason);
+        if (code == null) {
+            code = reasons.size();
+            reasons.add(reason);
+            reasonCodesByText.put(reason, code);
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= rows.length) {
+            return;
+        }
+        int capacity = Math.max(required, rows.length + (rows.length >> 1));
+        rows = Arrays.copyOf(rows, capacity);
+        tiers = Arrays.copyOf(tiers, capacity);
+        approved = Arrays.copyOf(approved, capacity);
+        recommendedLimits = Arrays.copyOf(recommendedLimits, capacity);
+        interestRates = Arrays.copyOf(interestRates, capacity);
+        decisionTimes = Arrays.copyOf(decisionTimes, capacity);
+        reasonCodes = Arrays.copyOf(reasonCodes, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // Column accessors
+    public int size() {
+        return size;
+    }
+
+    public ApplicantStore getApplicants() {
+        return applicants;
+    }
+
+    public int getRow(int index) {
+        checkIndex(index);
+        return rows[index];
+    }
+
+    public RiskTier getRiskTier(int index) {
+        checkIndex(index);
+        return TIERS[tiers[index]];
+    }
+
+    public boolean isApproved(int index) {
+        checkIndex(index);
+        return approved[index];
+    }
+
+    public double getRecommendedLimit(int index) {
+        checkIndex(index);
+        return recommendedLimits[index];
+    }
+
+    public double getInterestRate(int index) {
+        checkIndex(index);
+        return interestRates[index];
+    }
+
+    public long getDecisionTimeMillis(int index) {
+        checkIndex(index);
+        return decisionTimes[index];
+    }
+
+    public String getDecisionReason(int index) {
+        checkIndex(index);
+        int code = reasonCodes[index];
+        if (code == SCORE_REASON) {
+            return LoanDecision.formatScoreReason(applicants.getRiskScore(rows[index]), TIERS[tiers[index]]);
+        }
+        return code == NO_REASON ? null : reasons.get(code);
+    }
+
+    // Applicants whose risk score is in [minScore, maxScore], in table order; only matches become objects
+    public List<Applicant> findInRange(double minScore, double maxScore) {
+        List<Applicant> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double score = applicants.getRiskScore(rows[i]);
+            if (score >= minScore && score <= maxScore) {
+                result.add(applicants.toApplicant(rows[i]));
+            }
+        }
+        return result;
+    }
+
+    // Same listing as DecisionLinkedList.getAuditTrail, read straight from the columns
+    public String getAuditTrail() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Decision Audit Trail (Decision Table)\n");
+        sb.append("================================\n");
+        for (int i = 0; i < size; i++) {
+            sb.append(i + 1).append(". ").append(applicants.getId(rows[i]))
+                    .append(" -> ").append(TIERS[tiers[i]].getDisplayName())
+                    .append(" | ");
+            if (i + 1 < size) {
+                sb.append("next: ").append(applicants.getId(rows[i + 1]));
+            } else {
+                sb.append("(tail)");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    public int getApprovedCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (approved[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,67 @@
+package com.loantool.models;
+
+/**
+ * Immutable outcome of one eligibility evaluation: either eligible, or the first rule
+ * that failed as a RejectionReason code. The human readable message is only formatted
+ * when asked for. Results without per-applicant data are shared constants, so most
+ * evaluations allocate nothing.
+ */
+public final class EligibilityResult {
+    public static final EligibilityResult ELIGIBLE = new EligibilityResult(null, 0);
+
+    private static final EligibilityResult[] SHARED = new EligibilityResult[RejectionReason.values().length];
+
+    static {
+        for (RejectionReason reason : RejectionReason.values()) {
+            SHARED[reason.ordinal()] = new EligibilityResult(reason, 0);
+        }
+    }
+
+    private final RejectionReason reason;
+    private final double debtRatio;
+    private String message; // Lazily built; racy but idempotent, like String.hashCode
+
+    private EligibilityResult(RejectionReason reason, double debtRatio) {
+        this.reason = reason;
+        this.debtRatio = debtRatio;
+    }
+
+    public static EligibilityResult rejected(RejectionReason reason) {
+        return SHARED[reason.ordinal()];
+    }
+
+    // The debt ratio rejection message includes the applicant's ratio
+    public static EligibilityResult debtRatioTooHigh(double debtRatio) {
+        return new EligibilityResult(RejectionReason.DEBT_RATIO_TOO_HIGH, debtRatio);
+    }
+
+    public boolean isEligible() {
+        return reason == null;
+    }
+
+    // Null when eligible
+    public RejectionReason getReason() {
+        return reason;
+    }
+
+    public double getDebtRatio() {
+        return debtRatio;
+    }
+
+    // Same text the engine used to store as rejectionReason; null when eligible
+    public String getMessage() {
+        String result = message;
+        if (result == null && reason != null) {
+            result = reason == RejectionReason.DEBT_RATIO_TOO_HIGH
+                    ? String.format("Debt ratio (%.1f%%) exceeds limit", debtRatio * 100)
+                    : reason.getMessage();
+            message = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return isEligible() ? "Eligible" : getMessage();
+    }
+}
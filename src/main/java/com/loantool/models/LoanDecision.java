@@ -1,46 +1,96 @@
 package com.loantool.models;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 public class LoanDecision {
+    private static final DateTimeFormatter DECISION_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Decisions of one batch share a timestamp, so the last formatted one is kept for all of them
+    private static volatile FormattedTime lastFormattedTime = new FormattedTime(Long.MIN_VALUE, null, null);
+
     private Applicant applicant;
     private RiskTier riskTier;
     private boolean approved;
     private String decisionReason;
-    private LocalDateTime decisionTime;
+    private boolean scoreReason; // Reason is formatScoreReason(reasonScore, riskTier), built on first read; see scored()
+    private double reasonScore;
+    private long decisionTimeMillis;
+    private LocalDateTime decisionTime; // Converted from decisionTimeMillis on first use
     private double recommendedLimit;
     private double interestRate;
 
+    // Formatted values, built on first use; cleared when the limit or rate changes
+    private String formattedDecisionTime;
+    private String formattedRecommendedLimit;
+    private String formattedInterestRate;
+    private FormattedValue formattedMonthlyPayment; // keyed by loan term
+
     // Constructor 1: With all parameters
     public LoanDecision(Applicant applicant, RiskTier riskTier,
             boolean approved, String decisionReason) {
-        this.applicant = applicant;
-        this.riskTier = riskTier;
-        this.approved = approved;
-        this.decisionReason = decisionReason;
-        this.decisionTime = LocalDateTime.now();
-        this.interestRate = riskTier.getBaseInterestRate();
-        this.recommendedLimit = calculateRecommendedLimit();
+        this(applicant, riskTier, approved, decisionReason, riskTier.getBaseInterestRate());
     }
 
     // Constructor 2: With interest rate parameter
     public LoanDecision(Applicant applicant, RiskTier riskTier,
             boolean approved, String decisionReason, double interestRate) {
+        this(applicant, riskTier, approved, decisionReason, interestRate, System.currentTimeMillis());
+    }
+
+    private LoanDecision(Applicant applicant, RiskTier riskTier, boolean approved,
+            String decisionReason, double interestRate, long decisionTimeMillis) {
         this.applicant = applicant;
         this.riskTier = riskTier;
         this.approved = approved;
         this.decisionReason = decisionReason;
-        this.decisionTime = LocalDateTime.now();
+        this.decisionTimeMillis = decisionTimeMillis;
         this.interestRate = interestRate;
         this.recommendedLimit = calculateRecommendedLimit();
     }
 
+    // Decision whose reason is "Risk Score: <score> → <tier>"; the text is only built when it is read
+    public static LoanDecision scored(Applicant applicant, RiskTier riskTier, boolean approved, double riskScore) {
+        return scored(applicant, riskTier, approved, riskScore, System.currentTimeMillis());
+    }
+
+    // Same, stamped with a time shared by the whole batch (epoch millis) instead of reading the clock
+    public static LoanDecision scored(Applicant applicant, RiskTier riskTier, boolean approved, double riskScore,
+            long decisionTimeMillis) {
+        LoanDecision decision = new LoanDecision(applicant, riskTier, approved, null,
+                riskTier.getBaseInterestRate(), decisionTimeMillis);
+        decision.scoreReason = true;
+        decision.reasonScore = riskScore;
+        return decision;
+    }
+
+    // Whether the reason is the "Risk Score: ..." text for getReasonScore() and the current tier
+    boolean hasScoreReason() {
+        return scoreReason;
+    }
+
+    double getReasonScore() {
+        return reasonScore;
+    }
+
+    public static String formatScoreReason(double riskScore, RiskTier riskTier) {
+        return String.format("Risk Score: %.1f → %s", riskScore, riskTier.getDisplayName());
+    }
+
     private double calculateRecommendedLimit() {
+        return calculateRecommendedLimit(approved, riskTier, applicant.getMonthlyIncome(),
+                applicant.getLoanAmountRequested());
+    }
+
+    // Also used by report aggregation over applicant stores, without a LoanDecision
+    public static double calculateRecommendedLimit(boolean approved, RiskTier riskTier,
+            double monthlyIncome, double loanAmountRequested) {
         if (!approved)
             return 0;
 
-        double base = applicant.getMonthlyIncome() * 3; // 3 months income
+        double base = monthlyIncome * 3; // 3 months income
         double multiplier;
 
         // Java 11 compatible switch statement
@@ -53,7 +103,7 @@ public class LoanDecision {
         }
 
         double calculatedLimit = base * multiplier;
-        double maxAllowed = applicant.getLoanAmountRequested() * 1.2;
+        double maxAllowed = loanAmountRequested * 1.2;
 
         return Math.min(calculatedLimit, maxAllowed);
     }
@@ -72,11 +122,26 @@ public class LoanDecision {
     }
 
     public String getDecisionReason() {
-        return decisionReason;
+        String reason = decisionReason;
+        if (reason == null && scoreReason) {
+            // Racing readers format the same text, so publishing it without a lock is safe
+            reason = formatScoreReason(reasonScore, riskTier);
+            decisionReason = reason;
+        }
+        return reason;
     }
 
     public LocalDateTime getDecisionTime() {
-        return decisionTime;
+        LocalDateTime time = decisionTime;
+        if (time == null) {
+            time = LocalDateTime.ofInstant(Instant.ofEpochMilli(decisionTimeMillis), ZoneId.systemDefault());
+            decisionTime = time;
+        }
+        return time;
+    }
+
+    public long getDecisionTimeMillis() {
+        return decisionTimeMillis;
     }
 
     public double getRecommendedLimit() {
@@ -89,16 +154,39 @@ public class LoanDecision {
 
     // Formatted getters
     public String getFormattedDecisionTime() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        return decisionTime.format(formatter);
+        String formatted = formattedDecisionTime;
+        if (formatted == null) {
+            // The same instant formats differently in another zone, so the zone is part of the key
+            ZoneId zone = ZoneId.systemDefault();
+            FormattedTime last = lastFormattedTime;
+            if (last.millis == decisionTimeMillis && zone.equals(last.zone)) {
+                formatted = last.text;
+            } else {
+                formatted = LocalDateTime.ofInstant(Instant.ofEpochMilli(decisionTimeMillis), zone)
+                        .format(DECISION_TIME_FORMAT);
+                lastFormattedTime = new FormattedTime(decisionTimeMillis, zone, formatted);
+            }
+            formattedDecisionTime = formatted;
+        }
+        return formatted;
     }
 
     public String getFormattedRecommendedLimit() {
-        return String.format("$%,.2f", recommendedLimit);
+        String formatted = formattedRecommendedLimit;
+        if (formatted == null) {
+            formatted = String.format("$%,.2f", recommendedLimit);
+            formattedRecommendedLimit = formatted;
+        }
+        return formatted;
     }
 
     public String getFormattedInterestRate() {
-        return String.format("%.1f%%", interestRate * 100);
+        String formatted = formattedInterestRate;
+        if (formatted == null) {
+            formatted = String.format("%.1f%%", interestRate * 100);
+            formattedInterestRate = formatted;
+        }
+        return formatted;
     }
 
     public String getFormattedMonthlyPayment(int loanTermMonths) {
@@ -106,36 +194,58 @@ public class LoanDecision {
             return "$0.00";
         }
 
-        double monthlyRate = interestRate / 12;
-        double monthlyPayment = (recommendedLimit * monthlyRate * Math.pow(1 + monthlyRate, loanTermMonths)) /
-                (Math.pow(1 + monthlyRate, loanTermMonths) - 1);
+        FormattedValue cached = formattedMonthlyPayment;
+        if (cached == null || cached.key != loanTermMonths) {
+            cached = new FormattedValue(loanTermMonths,
+                    String.format("$%,.2f", calculateMonthlyPayment(recommendedLimit, interestRate, loanTermMonths)));
+            formattedMonthlyPayment = cached;
+        }
+        return cached.text;
+    }
 
-        return String.format("$%,.2f", monthlyPayment);
+    // Annuity payment for a principal at an annual rate over loanTermMonths, with one Math.pow
+    public static double calculateMonthlyPayment(double principal, double annualRate, int loanTermMonths) {
+        double monthlyRate = annualRate / 12;
+        double growth = Math.pow(1 + monthlyRate, loanTermMonths);
+        return (principal * monthlyRate * growth) / (growth - 1);
+    }
+
+    private void clearFormattedAmounts() {
+        formattedRecommendedLimit = null;
+        formattedInterestRate = null;
+        formattedMonthlyPayment = null;
     }
 
     // Setters
     public void setApplicant(Applicant applicant) {
         this.applicant = applicant;
         this.recommendedLimit = calculateRecommendedLimit();
+        clearFormattedAmounts();
     }
 
     public void setRiskTier(RiskTier riskTier) {
+        getDecisionReason(); // A score reason keeps naming the tier it was decided with
+        this.scoreReason = false;
         this.riskTier = riskTier;
         this.interestRate = riskTier.getBaseInterestRate();
         this.recommendedLimit = calculateRecommendedLimit();
+        clearFormattedAmounts();
     }
 
     public void setApproved(boolean approved) {
         this.approved = approved;
         this.recommendedLimit = calculateRecommendedLimit();
+        clearFormattedAmounts();
     }
 
     public void setDecisionReason(String decisionReason) {
         this.decisionReason = decisionReason;
+        this.scoreReason = false;
     }
 
     public void setInterestRate(double interestRate) {
         this.interestRate = interestRate;
+        clearFormattedAmounts();
     }
 
     // Business logic methods
@@ -197,7 +307,7 @@ public class LoanDecision {
             explanation.append("Monthly Payment (36 months): ").append(getFormattedMonthlyPayment(36)).append("\n");
         }
 
-        explanation.append("Decision Reason: ").append(decisionReason).append("\n");
+        explanation.append("Decision Reason: ").append(getDecisionReason()).append("\n");
         explanation.append("Decision Time: ").append(getFormattedDecisionTime()).append("\n");
 
         return explanation.toString();
@@ -220,7 +330,7 @@ public class LoanDecision {
                 applicant.getRiskScore(),
                 riskTier.name(),
                 approved,
-                decisionReason.replace("\"", "\\\""),
+                getDecisionReason().replace("\"", "\\\""),
                 recommendedLimit,
                 interestRate,
                 getFormattedDecisionTime());
@@ -242,7 +352,7 @@ public class LoanDecision {
                 recommendedLimit,
                 interestRate,
                 getFormattedDecisionTime(),
-                decisionReason.replace("\"", "\"\""));
+                getDecisionReason().replace("\"", "\"\""));
     }
 
     public static String getCSVHeader() {
@@ -257,7 +367,7 @@ public class LoanDecision {
                 applicant,
                 riskTier,
                 approved,
-                decisionReason,
+                getDecisionReason(),
                 interestRate);
     }
 
@@ -265,9 +375,9 @@ public class LoanDecision {
     public boolean isValid() {
         return applicant != null &&
                 riskTier != null &&
-                decisionReason != null &&
-                !decisionReason.trim().isEmpty() &&
-                decisionTime != null &&
+                getDecisionReason() != null &&
+                !getDecisionReason().trim().isEmpty() &&
+                getDecisionTime() != null &&
                 recommendedLimit >= 0 &&
                 interestRate >= 0;
     }
@@ -287,13 +397,14 @@ public class LoanDecision {
 
     @Override
     public String toString() {
+        String reason = getDecisionReason();
         return String.format(
                 "LoanDecision [ID: %s, Risk: %s, Approved: %s, Limit: %s, Reason: %s]",
                 applicant.getId(),
                 riskTier.getDisplayName(),
                 approved ? "YES" : "NO",
                 getFormattedRecommendedLimit(),
-                decisionReason.length() > 50 ? decisionReason.substring(0, 47) + "..." : decisionReason);
+                reason.length() > 50 ? reason.substring(0, 47) + "..." : reason);
     }
 
     @Override
@@ -310,7 +421,7 @@ public class LoanDecision {
                 Double.compare(that.interestRate, interestRate) == 0 &&
                 applicant.equals(that.applicant) &&
                 riskTier == that.riskTier &&
-                decisionReason.equals(that.decisionReason);
+                getDecisionReason().equals(that.getDecisionReason());
     }
 
     @Override
@@ -320,11 +431,35 @@ public class LoanDecision {
         result = applicant.hashCode();
         result = 31 * result + riskTier.hashCode();
         result = 31 * result + (approved ? 1 : 0);
-        result = 31 * result + decisionReason.hashCode();
+        result = 31 * result + getDecisionReason().hashCode();
         temp = Double.doubleToLongBits(recommendedLimit);
         result = 31 * result + (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(interestRate);
         result = 31 * result + (int) (temp ^ (temp >>> 32));
         return result;
     }
-}
\ No newline at end of file
+
+    // A formatted string and the value (loan term) it was formatted for
+    private static final class FormattedValue {
+        final long key;
+        final String text;
+
+        FormattedValue(long key, String text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    // A formatted decision time and the instant and zone it was formatted for
+    private static final class FormattedTime {
+        final long millis;
+        final ZoneId zone;
+        final String text;
+
+        FormattedTime(long millis, ZoneId zone, String text) {
+            this.millis = millis;
+            this.zone = zone;
+            this.text = text;
+        }
+    }
+}
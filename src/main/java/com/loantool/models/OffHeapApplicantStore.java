@@ -0,0 +1,219 @@
+package com.loantool.models;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Applicant store that keeps every field outside the Java heap, so the heap size does not
+ * limit how many applicants one run can hold and the GC never scans them.
+ *
+ * Rows live in fixed-size segments of SEGMENT_ROWS rows. Each segment is laid out column
+ * by column (incomes, debts, credit scores, ..., ids), so a pass over one field reads
+ * contiguous memory. Segments are either direct ByteBuffers (limited by
+ * -XX:MaxDirectMemorySize, which defaults to the heap size) or regions of a memory-mapped
+ * file (limited only by disk space; the OS pages rows in and out).
+ *
+ * IDs are stored as UTF-8 in a fixed slot of MAX_ID_BYTES bytes. Not thread-safe for
+ * writes; concurrent reads of rows that are no longer written are fine.
+ */
+public class OffHeapApplicantStore implements ApplicantStore, Closeable {
+    public static final int MAX_ID_BYTES = 16;
+
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+    private static final int ROW_MASK = SEGMENT_ROWS - 1;
+
+    // Column offsets inside a segment
+    private static final int INCOME_OFFSET = 0;
+    private static final int DEBT_OFFSET = INCOME_OFFSET + 8 * SEGMENT_ROWS;
+    private static final int LOAN_OFFSET = DEBT_OFFSET + 8 * SEGMENT_ROWS;
+    private static final int RISK_OFFSET = LOAN_OFFSET + 8 * SEGMENT_ROWS;
+    private static final int CREDIT_OFFSET = RISK_OFFSET + 8 * SEGMENT_ROWS;
+    private static final int EMPLOYMENT_OFFSET = CREDIT_OFFSET + 4 * SEGMENT_ROWS;
+    private static final int ELIGIBLE_OFFSET = EMPLOYMENT_OFFSET + 4 * SEGMENT_ROWS;
+    private static final int ID_LENGTH_OFFSET = ELIGIBLE_OFFSET + SEGMENT_ROWS;
+    private static final int ID_OFFSET = ID_LENGTH_OFFSET + SEGMENT_ROWS;
+    private static final int SEGMENT_BYTES = ID_OFFSET + MAX_ID_BYTES * SEGMENT_ROWS;
+
+    private final FileChannel channel; // null for direct buffers
+    private ByteBuffer[] segments = new ByteBuffer[0];
+    private int size;
+
+    private OffHeapApplicantStore(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    // Segments allocated as direct ByteBuffers
+    public static OffHeapApplicantStore allocateDirect() {
+        return new OffHeapApplicantStore(null);
+    }
+
+    // Segments mapped from the given file, which is created or truncated
+    public static OffHeapApplicantStore mapFile(String filePath) throws IOException {
+        return new OffHeapApplicantStore(FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    // Segments mapped from a temporary file that is deleted on close
+    public static OffHeapApplicantStore mapTemporaryFile() throws IOException {
+        Path file = Files.createTempFile("applicants", ".store");
+        return new OffHeapApplicantStore(FileChannel.open(file, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE));
+    }
+
+    // Appends a row and returns its index
+    public int add(String id, double monthlyIncome, double existingDebt,
+                   int creditScore, int employmentDuration, double loanAmountRequested) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (idBytes.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Applicant ID longer than " + MAX_ID_BYTES + " bytes: " + id);
+        }
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Applicant store is full");
+        }
+
+        int row = size;
+        ByteBuffer segment = segmentForAppend(row);
+        int index = row & ROW_MASK;
+        segment.putDouble(INCOME_OFFSET + index * 8, monthlyIncome);
+        segment.putDouble(DEBT_OFFSET + index * 8, existingDebt);
+        segment.putDouble(LOAN_OFFSET + index * 8, loanAmountRequested);
+        segment.putDouble(RISK_OFFSET + index * 8, 0);
+        segment.putInt(CREDIT_OFFSET + index * 4, creditScore);
+        segment.putInt(EMPLOYMENT_OFFSET + index * 4, employmentDuration);
+        segment.put(ELIGIBLE_OFFSET + index, (byte) 0);
+        segment.put(ID_LENGTH_OFFSET + index, (byte) idBytes.length);
+        for (int i = 0; i < idBytes.length; i++) {
+            segment.put(ID_OFFSET + index * MAX_ID_BYTES + i, idBytes[i]);
+        }
+        size++;
+        return row;
+    }
+
+    @Override
+    public int add(Applicant applicant) {
+        int row = add(applicant.getId(), applicant.getMonthlyIncome(), applicant.getExistingDebt(),
+                applicant.getCreditScore(), applicant.getEmploymentDuration(),
+                applicant.getLoanAmountRequested());
+        setRiskScore(row, applicant.getRiskScore());
+        setEligible(row, applicant.isEligible());
+        return row;
+    }
+
+    // Appends count rows copied from column arrays (e.g. a block of a binary applicant file)
+    public void addAll(int count, String[] idColumn, double[] incomeColumn, double[] debtColumn,
+                       int[] creditColumn, int[] employmentColumn, double[] loanColumn) {
+        for (int i = 0; i < count; i++) {
+            add(idColumn[i], incomeColumn[i], debtColumn[i], creditColumn[i], employmentColumn[i], loanColumn[i]);
+        }
+    }
+
+    private ByteBuffer segmentForAppend(int row) {
+        int segmentIndex = row >>> SEGMENT_SHIFT;
+        if (segmentIndex == segments.length) {
+            segments = Arrays.copyOf(segments, segmentIndex + 1);
+            segments[segmentIndex] = allocateSegment(segmentIndex);
+        }
+        return segments[segmentIndex];
+    }
+
+    private ByteBuffer allocateSegment(int segmentIndex) {
+        if (channel == null) {
+            return ByteBuffer.allocateDirect(SEGMENT_BYTES).order(ByteOrder.nativeOrder());
+        }
+        try {
+            // Mapping past the end grows the file
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * SEGMENT_BYTES, SEGMENT_BYTES)
+                    .order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not map applicant store segment: " + e.getMessage(), e);
+        }
+    }
+
+    private ByteBuffer segment(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range [0, " + size + ")");
+        }
+        return segments[row >>> SEGMENT_SHIFT];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getId(int row) {
+        ByteBuffer segment = segment(row);
+        int index = row & ROW_MASK;
+        byte[] idBytes = new byte[segment.get(ID_LENGTH_OFFSET + index)];
+        for (int i = 0; i < idBytes.length; i++) {
+            idBytes[i] = segment.get(ID_OFFSET + index * MAX_ID_BYTES + i);
+        }
+        return new String(idBytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public double getMonthlyIncome(int row) {
+        return segment(row).getDouble(INCOME_OFFSET + (row & ROW_MASK) * 8);
+    }
+
+    @Override
+    public double getExistingDebt(int row) {
+        return segment(row).getDouble(DEBT_OFFSET + (row & ROW_MASK) * 8);
+    }
+
+    @Override
+    public int getCreditScore(int row) {
+        return segment(row).getInt(CREDIT_OFFSET + (row & ROW_MASK) * 4);
+    }
+
+    @Override
+    public int getEmploymentDuration(int row) {
+        return segment(row).getInt(EMPLOYMENT_OFFSET + (row & ROW_MASK) * 4);
+    }
+
+    @Override
+    public double getLoanAmountRequested(int row) {
+        return segment(row).getDouble(LOAN_OFFSET + (row & ROW_MASK) * 8);
+    }
+
+    @Override
+    public double getRiskScore(int row) {
+        return segment(row).getDouble(RISK_OFFSET + (row & ROW_MASK) * 8);
+    }
+
+    @Override
+    public void setRiskScore(int row, double riskScore) {
+        segment(row).putDouble(RISK_OFFSET + (row & ROW_MASK) * 8, riskScore);
+    }
+
+    @Override
+    public boolean isEligible(int row) {
+        return segment(row).get(ELIGIBLE_OFFSET + (row & ROW_MASK)) != 0;
+    }
+
+    @Override
+    public void setEligible(int row, boolean eligible) {
+        segment(row).put(ELIGIBLE_OFFSET + (row & ROW_MASK), (byte) (eligible ? 1 : 0));
+    }
+
+    // Releases the backing file; mapped and direct memory is returned once the buffers are collected
+    @Override
+    public void close() throws IOException {
+        segments = new ByteBuffer[0];
+        size = 0;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
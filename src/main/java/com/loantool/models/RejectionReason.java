@@ -0,0 +1,25 @@
+package com.loantool.models;
+
+public enum RejectionReason {
+    INCOME_TOO_LOW("Income below minimum threshold"),
+    DEBT_RATIO_TOO_HIGH("Debt ratio exceeds limit"),
+    CREDIT_SCORE_TOO_LOW("Credit score too low"),
+    EMPLOYMENT_TOO_SHORT("Employment duration too short"),
+    LOAN_AMOUNT_TOO_HIGH("Loan amount too high relative to income");
+
+    private final String message;
+
+    RejectionReason(String message) {
+        this.message = message;
+    }
+
+    // Generic message; EligibilityResult adds the actual ratio for DEBT_RATIO_TOO_HIGH
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+}
@@ -1,12 +1,16 @@
 package com.loantool.ui;
 
 import com.loantool.algorithms.EligibilityEngine;
-import com.loantool.algorithms.MergeSorter;
 import com.loantool.algorithms.RiskClassifier;
-import com.loantool.models.Applicant;
-import com.loantool.models.LoanDecision;
+import com.loantool.algorithms.RiskScoringKernel;
+import com.loantool.algorithms.ScoreIndexSorter;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.DecisionTable;
+import com.loantool.models.RiskTier;
 import com.loantool.utils.FileHandler;
 import com.loantool.utils.ProcessedDataContext;
+import com.loantool.utils.ReportGenerator;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -20,6 +24,8 @@ import java.util.List;
 import java.util.Vector;
 
 public class CSVProcessPanel extends JPanel {
+    private static final int BATCH_SIZE = 10_000;
+
     private JTextField filePathField;
     private JButton browseButton;
     private JButton processButton;
@@ -159,65 +165,82 @@ public class CSVProcessPanel extends JPanel {
         progressBar.setIndeterminate(true);
 
         SwingWorker<Void, String> worker = new SwingWorker<Void, String>() {
-            private List<LoanDecision> decisions;
+            private DecisionTable decisions;
 
             @Override
             protected Void doInBackground() throws Exception {
                 String filePath = filePathField.getText().trim();
 
+                // Step 1: Stream the file and check eligibility batch by batch,
+                // so only eligible applicants are kept, packed in columns
+                // (off the heap when the file is large next to it)
                 publish("Loading applicants from: " + filePath);
-                List<Applicant> applicants = FileHandler.loadApplicantsFromCSV(filePath);
-                publish("Loaded " + applicants.size() + " applicants");
+                publish("Evaluating eligibility in batches of " + BATCH_SIZE + "...");
+                EligibilityEngine engine = new EligibilityEngine();
+                ApplicantStore eligibleApplicants = FileHandler.newApplicantStore(filePath);
+                boolean storeKept = false;
+                try {
+                    int loadedCount = FileHandler.streamApplicants(filePath, BATCH_SIZE,
+                            batch -> engine.evaluateEligibility(batch).forEach(eligibleApplicants::add));
+                    publish("Loaded " + loadedCount + " applicants" +
+                            (eligibleApplicants instanceof ApplicantColumns ? "" : " (eligible rows kept off-heap)"));
+
+                    if (loadedCount == 0) {
+                        publish("ERROR: No valid applicants found in the file.");
+                        return null;
+                    }
 
-                if (applicants.isEmpty()) {
-                    publish("ERROR: No valid applicants found in the file.");
-                    return null;
-                }
+                    publish("Eligible: " + eligibleApplicants.size() +
+                            " | Rejected: " + (loadedCount - eligibleApplicants.size()));
 
-                // Step 1: Eligibility Check
-                publish("\nEvaluating eligibility...");
-                EligibilityEngine engine = new EligibilityEngine();
-                List<Applicant> eligibleApplicants = engine.evaluateEligibility(applicants);
-                publish("Eligible: " + eligibleApplicants.size() +
-                        " | Rejected: " + (applicants.size() - eligibleApplicants.size()));
+                    if (eligibleApplicants.size() == 0) {
+                        publish("ERROR: No eligible applicants found!");
+                        return null;
+                    }
 
-                if (eligibleApplicants.isEmpty()) {
-                    publish("ERROR: No eligible applicants found!");
-                    return null;
-                }
+                    // Step 2: Calculate Risk Scores
+                    publish("\nCalculating risk scores...");
+                    RiskScoringKernel.score(eligibleApplicants);
+                    publish("Risk scores calculated");
 
-                // Step 2: Calculate Risk Scores
-                publish("\nCalculating risk scores...");
-                for (Applicant applicant : eligibleApplicants) {
-                    applicant.calculateRiskScore();
+                    // Step 3: Sort by Risk Score (stable, same order as Merge Sort)
+                    publish("\nSorting applicants...");
+                    int[] rows = new int[eligibleApplicants.size()];
+                    for (int i = 0; i < rows.length; i++) {
+                        rows[i] = i;
+                    }
+                    ScoreIndexSorter scoreSorter = new ScoreIndexSorter();
+                    long startTime = System.currentTimeMillis();
+                    int[] sortedRows = scoreSorter.sortRows(eligibleApplicants, rows);
+                    long sortTime = System.currentTimeMillis() - startTime;
+                    publish("Sorted by score index in " + sortTime + " ms");
+
+                    // Step 4: Classify Risk Tiers into a compact decision table
+                    publish("\nClassifying risk tiers...");
+                    RiskClassifier classifier = new RiskClassifier();
+                    DecisionTable table = classifier.classifyTable(eligibleApplicants, sortedRows);
+                    publish("Classification completed");
+
+                    // Step 5: Save Results
+                    publish("\nSaving results...");
+                    FileHandler.saveDecisionsToJSON(table, "data/output/results.json");
+                    FileHandler.saveDecisionsToCSV(table, "data/output/results.csv");
+                    ReportGenerator.generateSummaryReport(eligibleApplicants, sortedRows,
+                            "data/output/summary_report.txt");
+                    publish("Results saved to data/output/");
+
+                    // Step 6: Keep the table for range queries and the audit trail;
+                    // the context releases its applicant store when it is replaced
+                    ProcessedDataContext.getInstance().setDecisionTable(table);
+                    storeKept = true;
+                    decisions = table;
+                    publish("\nDecision table: " + table.size() + " decisions (" +
+                            table.getApprovedCount() + " approved), kept packed for queries");
+                } finally {
+                    if (!storeKept) {
+                        FileHandler.closeApplicantStore(eligibleApplicants);
+                    }
                 }
-                publish("Risk scores calculated");
-
-                // Step 3: Sort by Risk Score (using Merge Sort by default)
-                publish("\nSorting applicants...");
-                MergeSorter mergeSorter = new MergeSorter();
-                long startTime = System.currentTimeMillis();
-                List<Applicant> sortedApplicants = mergeSorter.sort(eligibleApplicants);
-                long sortTime = System.currentTimeMillis() - startTime;
-                publish("Sorted using Merge Sort in " + sortTime + " ms");
-
-                // Step 4: Classify Risk Tiers
-                publish("\nClassifying risk tiers...");
-                RiskClassifier classifier = new RiskClassifier();
-                decisions = classifier.classify(sortedApplicants);
-                publish("Classification completed");
-
-                // Step 5: Save Results
-                publish("\nSaving results...");
-                FileHandler.saveDecisionsToJSON(decisions, "data/output/results.json");
-                FileHandler.saveDecisionsToCSV(decisions, "data/output/results.csv");
-                publish("Results saved to data/output/");
-
-                // Step 6: Build BST and Linked List (data structures)
-                publish("\nBuilding data structures (BST, Linked List)...");
-                ProcessedDataContext.getInstance().setProcessedData(sortedApplicants, decisions);
-                publish("BST: " + ProcessedDataContext.getInstance().getApplicantBST().size() + " nodes | " +
-                        "Linked List: " + ProcessedDataContext.getInstance().getDecisionLinkedList().size() + " decisions");
 
                 return null;
             }
@@ -238,7 +261,7 @@ public class CSVProcessPanel extends JPanel {
                 browseButton.setEnabled(true);
 
                 try {
-                    if (decisions != null && !decisions.isEmpty()) {
+                    if (decisions != null && decisions.size() > 0) {
                         displayResults(decisions);
                         JOptionPane.showMessageDialog(CSVProcessPanel.this,
                                 "Processing completed successfully!\n" +
@@ -259,34 +282,37 @@ public class CSVProcessPanel extends JPanel {
         worker.execute();
     }
 
-    private void displayResults(List<LoanDecision> decisions) {
+    // Read straight from the table's columns, no LoanDecision per row
+    private void displayResults(DecisionTable decisions) {
         DefaultTableModel model = (DefaultTableModel) resultsTable.getModel();
         model.setRowCount(0);
+        ApplicantStore applicants = decisions.getApplicants();
 
         int approved = 0;
         int lowRisk = 0, mediumRisk = 0, highRisk = 0;
 
-        for (LoanDecision decision : decisions) {
-            Applicant app = decision.getApplicant();
+        for (int i = 0; i < decisions.size(); i++) {
+            int appRow = decisions.getRow(i);
+            RiskTier tier = decisions.getRiskTier(i);
 
             Vector<Object> row = new Vector<>();
-            row.add(app.getId());
-            row.add(String.format("$%,.2f", app.getMonthlyIncome()));
-            row.add(String.format("$%,.2f", app.getExistingDebt()));
-            row.add(app.getCreditScore());
-            row.add(app.getEmploymentDuration() + " months");
-            row.add(String.format("$%,.2f", app.getLoanAmountRequested()));
-            row.add(String.format("%.1f", app.getRiskScore()));
-            row.add(decision.getRiskTier().getDisplayName());
-            row.add(decision.isApproved() ? "Yes" : "No");
-            row.add(String.format("$%,.2f", decision.getRecommendedLimit()));
-            row.add(String.format("%.1f%%", decision.getInterestRate() * 100));
+            row.add(applicants.getId(appRow));
+            row.add(String.format("$%,.2f", applicants.getMonthlyIncome(appRow)));
+            row.add(String.format("$%,.2f", applicants.getExistingDebt(appRow)));
+            row.add(applicants.getCreditScore(appRow));
+            row.add(applicants.getEmploymentDuration(appRow) + " months");
+            row.add(String.format("$%,.2f", applicants.getLoanAmountRequested(appRow)));
+            row.add(String.format("%.1f", applicants.getRiskScore(appRow)));
+            row.add(tier.getDisplayName());
+            row.add(decisions.isApproved(i) ? "Yes" : "No");
+            row.add(String.format("$%,.2f", decisions.getRecommendedLimit(i)));
+            row.add(String.format("%.1f%%", decisions.getInterestRate(i) * 100));
 
             model.addRow(row);
 
-            if (decision.isApproved()) approved++;
+            if (decisions.isApproved(i)) approved++;
 
-            switch (decision.getRiskTier()) {
+            switch (tier) {
                 case LOW_RISK: lowRisk++; break;
                 case MEDIUM_RISK: mediumRisk++; break;
                 case HIGH_RISK: highRisk++; break;
@@ -299,4 +325,4 @@ public class CSVProcessPanel extends JPanel {
                 lowRisk, mediumRisk, highRisk);
         summaryLabel.setText(summary);
     }
-}
\ No newline at end of file
+}
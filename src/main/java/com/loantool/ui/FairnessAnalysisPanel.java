@@ -1,8 +1,10 @@
 package com.loantool.ui;
 
-import com.loantool.algorithms.EligibilityEngine;
+import com.loantool.algorithms.ThresholdSweep;
+import com.loantool.algorithms.WhatIfAnalyzer;
 import com.loantool.config.RulesConfig;
 import com.loantool.models.Applicant;
+import com.loantool.models.RiskTier;
 import com.loantool.utils.FileHandler;
 import com.loantool.utils.TestDataGenerator;
 import org.knowm.xchart.*;
@@ -16,6 +18,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FairnessAnalysisPanel extends JPanel {
+    private static final double CURVE_MIN_INCOME = 1000;
+    private static final double CURVE_MAX_INCOME = 4000;
+    private static final int CURVE_POINTS = 601; // every $5
+
     private JSpinner datasetSizeSpinner;
     private JRadioButton existingDataRadio;
     private JRadioButton newDataRadio;
@@ -128,13 +134,13 @@ public class FairnessAnalysisPanel extends JPanel {
                 if (newDataRadio.isSelected()) {
                     publish("Generating " + datasetSize + " sample applicants...");
                     TestDataGenerator.generateCSV("data/input/analysis_data.csv", datasetSize);
-                    applicants = FileHandler.loadApplicantsFromCSV("data/input/analysis_data.csv");
+                    applicants = FileHandler.loadApplicants("data/input/analysis_data.csv");
                 } else {
                     if (datasetSize <= 100) {
-                        applicants = FileHandler.loadApplicantsFromCSV("data/input/applicants.csv");
+                        applicants = FileHandler.loadApplicants(FileHandler.preferBinaryFile("data/input/applicants.csv"));
                     } else {
                         TestDataGenerator.generateCSV("data/input/large_dataset.csv", datasetSize);
-                        applicants = FileHandler.loadApplicantsFromCSV("data/input/large_dataset.csv");
+                        applicants = FileHandler.loadApplicants("data/input/large_dataset.csv");
                     }
                 }
 
@@ -144,41 +150,36 @@ public class FairnessAnalysisPanel extends JPanel {
                 publish(" Threshold | Approval Rate | High Risk % | Impact\n");
                 publish("════════════════════════════════════════════════════════\n");
 
-                RulesConfig config = RulesConfig.getInstance();
-                double originalThreshold = config.getMinIncomeThreshold();
+                // Curve: sort once on income, then every threshold is a binary search.
+                // Both the curve and the table start from one copy of the current rules.
+                RulesConfig baseRules = RulesConfig.getInstance().copy();
+                ThresholdSweep sweep = ThresholdSweep.build(applicants, ThresholdSweep.Dimension.MONTHLY_INCOME,
+                        baseRules);
 
                 List<Double> thresholds = new ArrayList<>();
                 List<Double> approvalRates = new ArrayList<>();
                 List<Double> highRiskRates = new ArrayList<>();
 
-                double[] testThresholds = {1500, 1800, 2000, 2200, 2500, 3000};
+                for (double threshold : ThresholdSweep.thresholds(CURVE_MIN_INCOME, CURVE_MAX_INCOME, CURVE_POINTS)) {
+                    thresholds.add(threshold);
+                    approvalRates.add(sweep.getApprovalRate(threshold));
+                    highRiskRates.add(sweep.getHighRiskRate(threshold));
+                }
 
+                // Table: each threshold is a full rules variant, all evaluated in one pass
+                double[] testThresholds = {1500, 1800, 2000, 2200, 2500, 3000};
+                List<RulesConfig> variants = new ArrayList<>();
                 for (double threshold : testThresholds) {
-                    config.setMinIncomeThreshold(threshold);
-                    EligibilityEngine engine = new EligibilityEngine();
-                    int eligibleCount = 0;
-                    int highRiskCount = 0;
-                    int approvedCount = 0;
-
-                    for (Applicant applicant : applicants) {
-                        if (engine.isEligible(applicant)) {
-                            eligibleCount++;
-                            applicant.calculateRiskScore();
-                            if (applicant.getRiskScore() < 50) {
-                                highRiskCount++;
-                            }
-                            if (applicant.getRiskScore() >= 50) {
-                                approvedCount++;
-                            }
-                        }
-                    }
+                    RulesConfig variant = baseRules.copy();
+                    variant.setMinIncomeThreshold(threshold);
+                    variants.add(variant);
+                }
+                List<WhatIfAnalyzer.VariantResult> results = new WhatIfAnalyzer().evaluate(applicants, variants);
 
-                    double approvalRate = (eligibleCount * 100.0) / applicants.size();
-                    double highRiskRate = eligibleCount > 0 ? (highRiskCount * 100.0) / eligibleCount : 0;
-
-                    thresholds.add(threshold);
-                    approvalRates.add(approvalRate);
-                    highRiskRates.add(highRiskRate);
+                for (int i = 0; i < testThresholds.length; i++) {
+                    double threshold = testThresholds[i];
+                    double approvalRate = results.get(i).getEligibilityRate();
+                    double highRiskRate = results.get(i).getTierRate(RiskTier.HIGH_RISK);
 
                     String impact;
                     if (approvalRate > 80 && highRiskRate < 10) {
@@ -195,8 +196,6 @@ public class FairnessAnalysisPanel extends JPanel {
                             threshold, approvalRate, highRiskRate, impact));
                 }
 
-                config.setMinIncomeThreshold(originalThreshold);
-
                 publish("\n════════════════════════════════════════════════════════\n");
                 publish("💡 Recommendation:\n");
                 publish("A threshold of $2000-$2200 provides a good balance for this dataset.\n");
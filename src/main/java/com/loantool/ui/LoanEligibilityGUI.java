@@ -1,5 +1,7 @@
 package com.loantool.ui;
 
+import com.loantool.config.RulesConfig;
+
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
@@ -173,6 +175,10 @@ public class LoanEligibilityGUI extends JFrame {
     }
     
     public static void main(String[] args) {
+        // Rules file from the first argument or -Dloantool.rules (hot-reloaded),
+        // otherwise the bundled thresholds.json
+        RulesConfig.getInstance().loadStartupRules(args.length > 0 ? args[0] : null);
+
         SwingUtilities.invokeLater(() -> {
             try {
                 new LoanEligibilityGUI().setVisible(true);
@@ -3,6 +3,7 @@ package com.loantool.ui;
 import com.loantool.algorithms.EligibilityEngine;
 import com.loantool.algorithms.RiskClassifier;
 import com.loantool.models.Applicant;
+import com.loantool.models.EligibilityResult;
 import com.loantool.models.LoanDecision;
 
 import javax.swing.*;
@@ -148,7 +149,8 @@ public class ManualInputPanel extends JPanel {
             resultsArea.append("                 EVALUATION RESULTS\n");
             resultsArea.append("════════════════════════════════════════════════════════\n\n");
 
-            if (engine.isEligible(applicant)) {
+            EligibilityResult eligibility = engine.evaluate(applicant);
+            if (eligibility.isEligible()) {
                 applicant.calculateRiskScore();
                 LoanDecision decision = classifier.classifySingle(applicant);
 
@@ -171,7 +173,7 @@ public class ManualInputPanel extends JPanel {
             } else {
                 resultsArea.append("❌ NOT ELIGIBLE FOR LOAN\n");
                 resultsArea.append("────────────────────────────────────────────────────────\n");
-                resultsArea.append("Rejection Reason: " + engine.getRejectionReason(applicant) + "\n");
+                resultsArea.append("Rejection Reason: " + eligibility.getMessage() + "\n");
                 resultsArea.append("\n💡 Suggestions:\n");
                 resultsArea.append("1. Improve credit score\n");
                 resultsArea.append("2. Reduce existing debt\n");
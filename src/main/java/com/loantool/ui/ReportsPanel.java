@@ -1,7 +1,5 @@
 package com.loantool.ui;
 
-import com.loantool.datastructures.ApplicantBST;
-import com.loantool.datastructures.DecisionLinkedList;
 import com.loantool.models.Applicant;
 import com.loantool.models.LoanDecision;
 import com.loantool.models.RiskTier;
@@ -18,8 +16,8 @@ import java.util.List;
 public class ReportsPanel extends JPanel {
     private JButton loadButton;
     private JButton generateReportButton;
-    private JButton bstQueryButton;
-    private JButton linkedListAuditButton;
+    private JButton rangeQueryButton;
+    private JButton auditButton;
     private JTextArea reportArea;
     private JLabel summaryLabel;
     
@@ -53,24 +51,26 @@ public class ReportsPanel extends JPanel {
         generateReportButton.setFocusPainted(false);
         generateReportButton.addActionListener(e -> generateReport());
         
-        bstQueryButton = new JButton("BST Range Query");
-        bstQueryButton.setBackground(new Color(104, 159, 56)); // Green
-        bstQueryButton.setForeground(Color.WHITE);
-        bstQueryButton.setFocusPainted(false);
-        bstQueryButton.setToolTipText("Find applicants in risk score range (uses BST)");
-        bstQueryButton.addActionListener(e -> showBSTQuery());
+        rangeQueryButton = new JButton("Risk Score Range Query");
+        rangeQueryButton.setBackground(new Color(104, 159, 56)); // Green
+        rangeQueryButton.setForeground(Color.WHITE);
+        rangeQueryButton.setFocusPainted(false);
+        rangeQueryButton.setToolTipText("Find applicants in risk score range " +
+                "(BST for loaded results, score column scan for a processed CSV)");
+        rangeQueryButton.addActionListener(e -> showRangeQuery());
 
-        linkedListAuditButton = new JButton("Linked List Audit");
-        linkedListAuditButton.setBackground(new Color(123, 31, 162)); // Purple
-        linkedListAuditButton.setForeground(Color.WHITE);
-        linkedListAuditButton.setFocusPainted(false);
-        linkedListAuditButton.setToolTipText("View decision audit trail (Linked List traversal)");
-        linkedListAuditButton.addActionListener(e -> showLinkedListAudit());
+        auditButton = new JButton("Decision Audit Trail");
+        auditButton.setBackground(new Color(123, 31, 162)); // Purple
+        auditButton.setForeground(Color.WHITE);
+        auditButton.setFocusPainted(false);
+        auditButton.setToolTipText("View decisions in order " +
+                "(linked list for loaded results, decision table for a processed CSV)");
+        auditButton.addActionListener(e -> showAuditTrail());
 
         controlPanel.add(loadButton);
         controlPanel.add(generateReportButton);
-        controlPanel.add(bstQueryButton);
-        controlPanel.add(linkedListAuditButton);
+        controlPanel.add(rangeQueryButton);
+        controlPanel.add(auditButton);
         
         // Summary Panel
         JPanel summaryPanel = new JPanel(new BorderLayout());
@@ -232,9 +232,9 @@ public class ReportsPanel extends JPanel {
         reportArea.setText(report.toString());
     }
 
-    private void showBSTQuery() {
-        ApplicantBST bst = ProcessedDataContext.getInstance().getApplicantBST();
-        if (bst == null || bst.isEmpty()) {
+    private void showRangeQuery() {
+        ProcessedDataContext context = ProcessedDataContext.getInstance();
+        if (!context.hasData()) {
             JOptionPane.showMessageDialog(this,
                     "No data loaded. Load results or process a CSV file first.",
                     "No Data",
@@ -250,10 +250,11 @@ public class ReportsPanel extends JPanel {
         try {
             double minScore = Double.parseDouble(minStr);
             double maxScore = Double.parseDouble(maxStr);
-            java.util.List<Applicant> inRange = bst.findInRange(minScore, maxScore);
+            java.util.List<Applicant> inRange = context.findInRange(minScore, maxScore);
+            String method = context.getDecisionTable() != null ? "Score Column Scan" : "BST";
 
             StringBuilder sb = new StringBuilder();
-            sb.append("BST Range Query: Risk Score [").append(minScore).append(" - ").append(maxScore).append("]\n");
+            sb.append("Risk Score Range Query (").append(method).append("): [").append(minScore).append(" - ").append(maxScore).append("]\n");
             sb.append("========================================\n");
             sb.append("Found ").append(inRange.size()).append(" applicant(s)\n\n");
             for (Applicant a : inRange) {
@@ -266,15 +267,15 @@ public class ReportsPanel extends JPanel {
         }
     }
 
-    private void showLinkedListAudit() {
-        DecisionLinkedList list = ProcessedDataContext.getInstance().getDecisionLinkedList();
-        if (list == null || list.isEmpty()) {
+    private void showAuditTrail() {
+        String auditTrail = ProcessedDataContext.getInstance().getAuditTrail();
+        if (!ProcessedDataContext.getInstance().hasData() || auditTrail == null) {
             JOptionPane.showMessageDialog(this,
                     "No data loaded. Load results or process a CSV file first.",
                     "No Data",
                     JOptionPane.WARNING_MESSAGE);
             return;
         }
-        reportArea.setText(list.getAuditTrail());
+        reportArea.setText(auditTrail);
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.loantool.ui;
 import com.loantool.algorithms.EligibilityEngine;
 import com.loantool.algorithms.HeapSorter;
 import com.loantool.algorithms.MergeSorter;
+import com.loantool.algorithms.ParallelMergeSorter;
 import com.loantool.algorithms.QuickSorter;
+import com.loantool.algorithms.RiskScoringKernel;
 import com.loantool.models.Applicant;
 import com.loantool.utils.FileHandler;
 import com.loantool.utils.TestDataGenerator;
@@ -132,13 +134,13 @@ public class SortingComparisonPanel extends JPanel {
                 }
 
                 publish("Loading applicants...\n");
-                List<Applicant> applicants = FileHandler.loadApplicantsFromCSV(dataFile);
-                List<Applicant> eligibleApplicants = new EligibilityEngine().evaluateEligibility(applicants);
+                EligibilityEngine engine = new EligibilityEngine();
+                List<Applicant> eligibleApplicants = new ArrayList<>();
+                FileHandler.streamApplicants(FileHandler.preferBinaryFile(dataFile), 10_000,
+                        batch -> eligibleApplicants.addAll(engine.evaluateEligibility(batch)));
 
                 publish("Calculating risk scores...\n");
-                for (Applicant applicant : eligibleApplicants) {
-                    applicant.calculateRiskScore();
-                }
+                RiskScoringKernel.scoreAll(eligibleApplicants);
 
                 publish("\n════════════════════════════════════════════════════════\n");
                 publish("PERFORMANCE TESTING ON " + eligibleApplicants.size() + " ELIGIBLE APPLICANTS\n");
@@ -177,12 +179,24 @@ public class SortingComparisonPanel extends JPanel {
                 List<Applicant> heapSorted = heapSorter.sort(new ArrayList<>(eligibleApplicants));
                 long heapTime = System.nanoTime() - heapStartTime;
 
+                // Test Parallel Merge Sort
+                publish("4. PARALLEL MERGE SORT TEST\n");
+                publish("   - Time Complexity: O(n log n), halves sorted concurrently\n");
+                publish("   - Space Complexity: O(n) - one auxiliary buffer\n");
+                publish("   - Characteristics: Stable, fork-join, skips merging ordered halves\n\n");
+
+                ParallelMergeSorter parallelSorter = new ParallelMergeSorter();
+                long parallelStartTime = System.nanoTime();
+                List<Applicant> parallelSorted = parallelSorter.sort(new ArrayList<>(eligibleApplicants));
+                long parallelTime = System.nanoTime() - parallelStartTime;
+
                 publish("════════════════════════════════════════════════════════\n");
                 publish("PERFORMANCE RESULTS\n");
                 publish("════════════════════════════════════════════════════════\n");
                 publish(String.format("Merge Sort Execution Time:  %,.3f ms\n", mergeTime / 1_000_000.0));
                 publish(String.format("Quick Sort Execution Time:  %,.3f ms\n", quickTime / 1_000_000.0));
                 publish(String.format("Heap Sort Execution Time:   %,.3f ms\n", heapTime / 1_000_000.0));
+                publish(String.format("Parallel Merge Time:        %,.3f ms\n", parallelTime / 1_000_000.0));
 
                 double diffQuick = (quickTime - mergeTime) / 1_000_000.0;
                 double pctQuick = mergeTime > 0 ? ((double) (quickTime - mergeTime) / mergeTime) * 100 : 0;
@@ -190,19 +204,24 @@ public class SortingComparisonPanel extends JPanel {
 
                 double diffHeap = (heapTime - mergeTime) / 1_000_000.0;
                 double pctHeap = mergeTime > 0 ? ((double) (heapTime - mergeTime) / mergeTime) * 100 : 0;
-                publish(String.format("Heap vs Merge:  %,.3f ms (%+.1f%%)\n\n", diffHeap, pctHeap));
+                publish(String.format("Heap vs Merge:  %,.3f ms (%+.1f%%)\n", diffHeap, pctHeap));
+
+                double diffParallel = (parallelTime - mergeTime) / 1_000_000.0;
+                double pctParallel = mergeTime > 0 ? ((double) (parallelTime - mergeTime) / mergeTime) * 100 : 0;
+                publish(String.format("Parallel vs Merge: %,.3f ms (%+.1f%%)\n\n", diffParallel, pctParallel));
 
                 // Verify correctness (all three match)
                 boolean identical = true;
                 for (int i = 0; i < mergeSorted.size(); i++) {
                     if (mergeSorted.get(i).getRiskScore() != quickSorted.get(i).getRiskScore()
-                            || mergeSorted.get(i).getRiskScore() != heapSorted.get(i).getRiskScore()) {
+                            || mergeSorted.get(i).getRiskScore() != heapSorted.get(i).getRiskScore()
+                            || mergeSorted.get(i) != parallelSorted.get(i)) {
                         identical = false;
                         break;
                     }
                 }
 
-                publish("✅ Sorting results (Merge/Quick/Heap) are " + (identical ? "IDENTICAL" : "DIFFERENT") + "\n");
+                publish("✅ Sorting results (Merge/Quick/Heap/Parallel) are " + (identical ? "IDENTICAL" : "DIFFERENT") + "\n");
                 publish("\n( Top 10 below extracted via Max Heap - extractMax K times )\n");
 
                 // Top 10 via Heap (demonstrates heap for priority extraction)
@@ -0,0 +1,357 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact, versioned binary format for applicant records.
+ *
+ * Layout (little-endian):
+ *   header: int magic "LAPB", int version, long rowCount (all zero until the writer finishes)
+ *   blocks: int rows, int idByteCount,
+ *           short[rows] idLengths, byte[idByteCount] ids (UTF-8),
+ *           double[rows] monthlyIncome, double[rows] existingDebt,
+ *           int[rows] creditScore, int[rows] employmentMonths,
+ *           double[rows] loanAmountRequested
+ *
+ * Each block stores its rows column by column, so a block is read with one channel
+ * read and each column is copied out with a single bulk get. Blocks keep writing and
+ * reading streamable: converting a CSV never needs the whole file in memory.
+ */
+public class ApplicantBinaryFile {
+    public static final int MAGIC = 0x4250414C; // "LAPB" in little-endian byte order
+    public static final int VERSION = 1;
+    public static final int BLOCK_ROWS = 64 * 1024;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int BLOCK_HEADER_BYTES = 8;
+    private static final int FIXED_BYTES_PER_ROW = 2 + 8 + 8 + 4 + 4 + 8;
+
+    // Receives the columns of one block; arrays are reused, copy what you keep
+    public interface BlockConsumer {
+        void accept(int rows, String[] ids, double[] monthlyIncome, double[] existingDebt,
+                int[] creditScore, int[] employmentMonths, double[] loanAmountRequested);
+    }
+
+    public static boolean isBinaryFile(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            return channel.read(header, 0) == 4 && header.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void save(List<Applicant> applicants, String filePath) throws IOException {
+        try (Writer writer = new Writer(filePath)) {
+            for (Applicant applicant : applicants) {
+                writer.write(applicant);
+            }
+            writer.finish();
+        }
+    }
+
+    public static List<Applicant> load(String filePath) throws IOException {
+        List<Applicant> applicants = new ArrayList<>();
+        readBlocks(filePath, (rows, ids, income, debt, credit, employment, loan) -> {
+            for (int i = 0; i < rows; i++) {
+                applicants.add(new Applicant(ids[i], income[i], debt[i], credit[i], employment[i], loan[i]));
+            }
+        });
+        return applicants;
+    }
+
+    // Reads the file block by block; returns the row count recorded in the header.
+    // Fails with an IOException if the blocks hold fewer or more rows than the header.
+    public static long readBlocks(String filePath, BlockConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a binary applicant file: " + filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary applicant file version " + version +
+                        " (expected " + VERSION + ")");
+            }
+            long rowCount = header.getLong();
+            if (rowCount < 0) {
+                throw new IOException("Corrupt binary applicant file: row count " + rowCount);
+            }
+            long rowsRead = 0;
+
+            ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer block = ByteBuffer.allocate(0);
+            Columns columns = new Columns(0);
+
+            while (true) {
+                blockHeader.clear();
+                if (channel.read(blockHeader) <= 0) {
+                    break;
+                }
+                readFully(channel, blockHeader);
+                blockHeader.flip();
+                int rows = blockHeader.getInt();
+                int idByteCount = blockHeader.getInt();
+                if (rows <= 0 || rows > BLOCK_ROWS || idByteCount < 0 || idByteCount > (long) rows * 0xFFFF
+                        || (long) rows * FIXED_BYTES_PER_ROW + idByteCount > Integer.MAX_VALUE) {
+                    throw new IOException("Corrupt binary applicant file: block of " + rows +
+                            " rows with " + idByteCount + " ID bytes");
+                }
+                if (rowsRead + rows > rowCount) {
+                    throw new IOException("Corrupt binary applicant file: more rows than the " +
+                            rowCount + " recorded in the header");
+                }
+
+                int blockBytes = rows * FIXED_BYTES_PER_ROW + idByteCount;
+                if (blockBytes > channel.size() - channel.position()) {
+                    throw new IOException("Binary applicant file is truncated inside a block of " + rows + " rows");
+                }
+                if (block.capacity() < blockBytes) {
+                    block = ByteBuffer.allocate(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+                }
+                block.clear().limit(blockBytes);
+                readFully(channel, block);
+                block.flip();
+
+                if (columns.capacity < rows) {
+                    columns = new Columns(rows);
+                }
+                columns.readFrom(block, rows, idByteCount);
+                consumer.accept(rows, columns.ids, columns.monthlyIncome, columns.existingDebt,
+                        columns.creditScore, columns.employmentMonths, columns.loanAmountRequested);
+                rowsRead += rows;
+            }
+
+            if (rowsRead != rowCount) {
+                throw new IOException("Binary applicant file is truncated: expected " + rowCount +
+                        " rows, found " + rowsRead);
+            }
+            return rowCount;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of binary applicant file");
+            }
+        }
+    }
+
+    // One block worth of columns, reused between blocks
+    private static class Columns {
+        final int capacity;
+        final String[] ids;
+        final short[] idLengths;
+        final double[] monthlyIncome;
+        final double[] existingDebt;
+        final int[] creditScore;
+        final int[] employmentMonths;
+        final double[] loanAmountRequested;
+        int size;
+        int idByteCount;
+        byte[] idBytes = new byte[0];
+
+        Columns(int capacity) {
+            this.capacity = capacity;
+            this.ids = new String[capacity];
+            this.idLengths = new short[capacity];
+            this.monthlyIncome = new double[capacity];
+            this.existingDebt = new double[capacity];
+            this.creditScore = new int[capacity];
+            this.employmentMonths = new int[capacity];
+            this.loanAmountRequested = new double[capacity];
+        }
+
+        void add(Applicant applicant) {
+            byte[] id = applicant.getId().getBytes(StandardCharsets.UTF_8);
+            if (id.length > 0xFFFF) {
+                throw new IllegalArgumentException("Applicant ID too long: " + id.length + " bytes");
+            }
+            if (idByteCount + id.length > idBytes.length) {
+                byte[] larger = new byte[Math.max(idBytes.length * 2, idByteCount + id.length + 1024)];
+                System.arraycopy(idBytes, 0, larger, 0, idByteCount);
+                idBytes = larger;
+            }
+            System.arraycopy(id, 0, idBytes, idByteCount, id.length);
+            idByteCount += id.length;
+
+            idLengths[size] = (short) id.length;
+            monthlyIncome[size] = applicant.getMonthlyIncome();
+            existingDebt[size] = applicant.getExistingDebt();
+            creditScore[size] = applicant.getCreditScore();
+            employmentMonths[size] = applicant.getEmploymentDuration();
+            loanAmountRequested[size] = applicant.getLoanAmountRequested();
+            size++;
+        }
+
+        void writeTo(ByteBuffer block) {
+            block.putInt(size);
+            block.putInt(idByteCount);
+            block.asShortBuffer().put(idLengths, 0, size);
+            block.position(block.position() + size * 2);
+            block.put(idBytes, 0, idByteCount);
+            block.asDoubleBuffer().put(monthlyIncome, 0, size);
+            block.position(block.position() + size * 8);
+            block.asDoubleBuffer().put(existingDebt, 0, size);
+            block.position(block.position() + size * 8);
+            block.asIntBuffer().put(creditScore, 0, size);
+            block.position(block.position() + size * 4);
+            block.asIntBuffer().put(employmentMonths, 0, size);
+            block.position(block.position() + size * 4);
+            block.asDoubleBuffer().put(loanAmountRequested, 0, size);
+            block.position(block.position() + size * 8);
+        }
+
+        void readFrom(ByteBuffer block, int rows, int idByteCount) throws IOException {
+            block.asShortBuffer().get(idLengths, 0, rows);
+            block.position(block.position() + rows * 2);
+
+            if (idBytes.length < idByteCount) {
+                idBytes = new byte[idByteCount];
+            }
+            block.get(idBytes, 0, idByteCount);
+            int offset = 0;
+            for (int i = 0; i < rows; i++) {
+                int length = idLengths[i] & 0xFFFF;
+                if (offset + length > idByteCount) {
+                    throw new IOException("Corrupt binary applicant file: ID lengths exceed the block's ID bytes");
+                }
+                ids[i] = new String(idBytes, offset, length, StandardCharsets.UTF_8);
+                offset += length;
+            }
+
+            block.asDoubleBuffer().get(monthlyIncome, 0, rows);
+            block.position(block.position() + rows * 8);
+            block.asDoubleBuffer().get(existingDebt, 0, rows);
+            block.position(block.position() + rows * 8);
+            block.asIntBuffer().get(creditScore, 0, rows);
+            block.position(block.position() + rows * 4);
+            block.asIntBuffer().get(employmentMonths, 0, rows);
+            block.position(block.position() + rows * 4);
+            block.asDoubleBuffer().get(loanAmountRequested, 0, rows);
+            block.position(block.position() + rows * 8);
+        }
+    }
+
+    /**
+     * Writes applicants block by block. The header stays zeroed, so the file is not
+     * recognised as a binary applicant file, until finish() writes the last block and
+     * the real header; closing without finish() (e.g. after a failed conversion) leaves
+     * it that way.
+     */
+    public static class Writer implements Closeable {
+        private final FileChannel channel;
+        private final Columns columns = new Columns(BLOCK_ROWS);
+        private ByteBuffer block = ByteBuffer.allocate(0);
+        private long rowCount;
+        private boolean finished;
+
+        public Writer(String filePath) throws IOException {
+            Path path = Paths.get(filePath);
+            if (path.getParent() != null) {
+                FileHandler.createDirectoryIfNotExists(path.getParent().toString());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                writeHeader(ByteBuffer.allocate(HEADER_BYTES));
+                channel.position(HEADER_BYTES);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public void write(Applicant applicant) throws IOException {
+            if (finished) {
+                throw new IllegalStateException("Binary applicant file already finished");
+            }
+            columns.add(applicant);
+            rowCount++;
+            if (columns.size == BLOCK_ROWS) {
+                flushBlock();
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (columns.size == 0) {
+                return;
+            }
+
+            int blockBytes = BLOCK_HEADER_BYTES + columns.size * FIXED_BYTES_PER_ROW + columns.idByteCount;
+            if (block.capacity() < blockBytes) {
+                block = ByteBuffer.allocate(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            block.clear();
+            columns.writeTo(block);
+            block.flip();
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+
+            columns.size = 0;
+            columns.idByteCount = 0;
+        }
+
+        // Flushes the last block and writes the header that makes the file readable
+        public void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            flushBlock();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(rowCount);
+            header.flip();
+            writeHeader(header);
+            finished = true;
+        }
+
+        private void writeHeader(ByteBuffer header) throws IOException {
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER_BYTES - header.remaining());
+            }
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Converts a CSV file once so later runs can load the binary file instead
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ApplicantBinaryFile <input.csv> <output.bin>");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            long rows = FileHandler.convertCSVToBinary(args[0], args[1]);
+            System.out.println("✅ Converted " + rows + " applicants to " + args[1] +
+                    " in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (IOException e) {
+            System.err.println("Error converting file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams applicants out of a CSV file one row at a time.
+ * The file is read through a fixed-size buffer on a FileChannel, so memory use
+ * depends on the buffer (and the caller's batch size), never on the file size.
+ */
+public class CSVApplicantReader implements Iterator<Applicant>, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private boolean endOfInput;
+    private int lineNumber;
+    private int lineStart;
+    private int lineEnd;
+    private final CSVFieldDecoder decoder = new CSVFieldDecoder();
+
+    private Applicant nextApplicant;
+    private int loadedCount;
+    private int skippedCount;
+    private final List<String> validationErrors = new ArrayList<>();
+
+    public CSVApplicantReader(String filePath) throws IOException {
+        this(filePath, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CSVApplicantReader(String filePath, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(Math.max(bufferSize, 1024));
+        this.buffer.flip(); // start empty, in read mode
+
+        try {
+            if (!nextLine()) {
+                throw new IOException("CSV file is empty");
+            }
+            String header = decodeCurrentLine();
+
+            // Validate header
+            String[] headerParts = header.split(",");
+            if (headerParts.length < 6) {
+                throw new IOException(
+                        "Invalid CSV format. Expected: ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested");
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextApplicant == null) {
+            try {
+                nextApplicant = readApplicant();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextApplicant != null;
+    }
+
+    @Override
+    public Applicant next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Applicant applicant = nextApplicant;
+        nextApplicant = null;
+        return applicant;
+    }
+
+    // Fill the batch with up to batchSize applicants; returns how many were added
+    public int readBatch(List<Applicant> batch, int batchSize) {
+        int added = 0;
+        while (added < batchSize && hasNext()) {
+            batch.add(next());
+            added++;
+        }
+        return added;
+    }
+
+    private Applicant readApplicant() throws IOException {
+        while (nextLine()) {
+            // Skip empty lines
+            if (CSVFieldDecoder.isBlank(buffer, lineStart, lineEnd)) {
+                continue;
+            }
+
+            // Plain valid rows are decoded straight from the buffer, the rest
+            // goes through the String path so error messages stay the same
+            Applicant applicant;
+            if (decoder.decode(buffer, lineStart, lineEnd) && DataValidator.isValidRow(decoder)) {
+                applicant = decoder.toApplicant();
+            } else {
+                applicant = parseRow(decodeCurrentLine(), lineNumber);
+            }
+
+            if (applicant != null) {
+                loadedCount++;
+                return applicant;
+            }
+        }
+        return null;
+    }
+
+    private Applicant parseRow(String line, int lineNo) {
+        String[] parts = line.split(",");
+
+        // Validate row
+        DataValidator.ValidationResult validation = DataValidator.validateCSVRow(parts, lineNo);
+
+        if (!validation.isValid()) {
+            recordError("Line " + lineNo + ": " + validation.getErrorMessages());
+            return null; // Skip invalid rows
+        }
+
+        try {
+            Applicant applicant = buildApplicant(parts);
+
+            // Log warnings if any
+            if (validation.hasWarnings()) {
+                System.out.println("⚠️ Warning for line " + lineNo + ": " +
+                        validation.getWarningMessages());
+            }
+
+            return applicant;
+        } catch (NumberFormatException e) {
+            recordError("Line " + lineNo + ": Invalid number format");
+            return null;
+        }
+    }
+
+    // Builds an applicant from an already validated row
+    static Applicant buildApplicant(String[] parts) {
+        String id = parts[0].trim();
+        double income = Double.parseDouble(parts[1].trim());
+        double debt = Double.parseDouble(parts[2].trim());
+        int creditScore = Integer.parseInt(parts[3].trim());
+        int employmentMonths = Integer.parseInt(parts[4].trim());
+        double loanAmount = Double.parseDouble(parts[5].trim());
+
+        return new Applicant(id, income, debt, creditScore, employmentMonths, loanAmount);
+    }
+
+    private void recordError(String message) {
+        skippedCount++;
+        if (validationErrors.size() < MAX_REPORTED_ERRORS) {
+            validationErrors.add(message);
+        }
+    }
+
+    // Advances lineStart/lineEnd to the next line (terminator excluded); false at end of file.
+    // Lines end at "\n", "\r\n" or a lone "\r", like BufferedReader.readLine.
+    private boolean nextLine() throws IOException {
+        while (true) {
+            int start = buffer.position();
+            int limit = buffer.limit();
+            for (int i = start; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    buffer.position(i + 1);
+                    setLine(start, i);
+                    return true;
+                }
+                if (b == '\r') {
+                    if (i + 1 < limit) {
+                        buffer.position(buffer.get(i + 1) == '\n' ? i + 2 : i + 1);
+                    } else if (endOfInput) {
+                        buffer.position(limit);
+                    } else {
+                        break; // the next byte decides between "\r" and "\r\n"
+                    }
+                    setLine(start, i);
+                    return true;
+                }
+            }
+
+            if (endOfInput) {
+                if (start == limit) {
+                    return false;
+                }
+                buffer.position(limit);
+                setLine(start, limit);
+                return true;
+            }
+
+            fillBuffer();
+        }
+    }
+
+    private void fillBuffer() throws IOException {
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            // A single line is larger than the buffer: grow it
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+
+        if (channel.read(buffer) < 0) {
+            endOfInput = true;
+        }
+        buffer.flip();
+    }
+
+    private void setLine(int start, int end) {
+        lineNumber++;
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private String decodeCurrentLine() {
+        return new String(buffer.array(), buffer.arrayOffset() + lineStart, lineEnd - lineStart,
+                StandardCharsets.UTF_8);
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public List<String> getValidationErrors() {
+        return validationErrors;
+    }
+
+    public void printValidationReport() {
+        printValidationReport(loadedCount, skippedCount, validationErrors);
+    }
+
+    static void printValidationReport(int loadedCount, int skippedCount, List<String> validationErrors) {
+        if (skippedCount == 0) {
+            return;
+        }
+
+        System.out.println("\n📋 VALIDATION REPORT:");
+        System.out.println("====================");
+        System.out.println("Loaded " + loadedCount + " valid applicants");
+        System.out.println("Skipped " + skippedCount + " invalid rows");
+
+        if (loadedCount > 0) {
+            System.out.println("\n❌ Validation Errors:");
+            for (String error : validationErrors) {
+                System.out.println(error);
+            }
+            if (skippedCount > validationErrors.size()) {
+                System.out.println("... " + (skippedCount - validationErrors.size()) + " more");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
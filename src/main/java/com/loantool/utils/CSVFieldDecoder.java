@@ -0,0 +1,218 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single-pass decoder for the six applicant columns of one CSV row.
+ * Each field is located, trimmed and parsed once, straight from the bytes, and the
+ * decoded values are used both for validation (DataValidator.isValidRow) and for
+ * building the Applicant. No intermediate Strings are created.
+ *
+ * decode() only accepts plain rows: an "APP" id and plain decimal numbers. Anything
+ * else (missing columns, exponents, very long numbers...) returns false and the caller
+ * falls back to the String based validateCSVRow path, which produces the error message.
+ * A decoder holds per-row state, so use one instance per thread.
+ */
+public class CSVFieldDecoder {
+    private static final int MAX_ID_LENGTH = 16;
+
+    // Powers of ten that are exact doubles
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final int[] fieldStart = new int[6];
+    private final int[] fieldEnd = new int[6];
+    private final byte[] idBytes = new byte[MAX_ID_LENGTH];
+    private int idLength;
+    private boolean failed;
+
+    private double monthlyIncome;
+    private double existingDebt;
+    private int creditScore;
+    private int employmentMonths;
+    private double loanAmountRequested;
+
+    // Decodes the row in buffer[start, end) (line terminator excluded); false if it is not a plain row
+    public boolean decode(ByteBuffer buffer, int start, int end) {
+        if (!locateFields(buffer, start, end) || !copyId(buffer)) {
+            return false;
+        }
+
+        failed = false;
+        monthlyIncome = parseDouble(buffer, fieldStart[1], fieldEnd[1]);
+        existingDebt = parseDouble(buffer, fieldStart[2], fieldEnd[2]);
+        creditScore = parseInt(buffer, fieldStart[3], fieldEnd[3]);
+        employmentMonths = parseInt(buffer, fieldStart[4], fieldEnd[4]);
+        loanAmountRequested = parseDouble(buffer, fieldStart[5], fieldEnd[5]);
+        return !failed;
+    }
+
+    public static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if ((buffer.get(i) & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Applicant toApplicant() {
+        return new Applicant(getId(), monthlyIncome, existingDebt, creditScore,
+                employmentMonths, loanAmountRequested);
+    }
+
+    // Finds the first six comma separated fields and trims them like String.trim()
+    private boolean locateFields(ByteBuffer buffer, int start, int end) {
+        for (int field = 0; field < 6; field++) {
+            int fieldEndIndex = start;
+            while (fieldEndIndex < end && buffer.get(fieldEndIndex) != ',') {
+                fieldEndIndex++;
+            }
+            if (fieldEndIndex == end && field < 5) {
+                return false;
+            }
+
+            int s = start;
+            int e = fieldEndIndex;
+            while (s < e && (buffer.get(s) & 0xFF) <= ' ') {
+                s++;
+            }
+            while (e > s && (buffer.get(e - 1) & 0xFF) <= ' ') {
+                e--;
+            }
+            fieldStart[field] = s;
+            fieldEnd[field] = e;
+            start = fieldEndIndex + 1;
+        }
+        return true;
+    }
+
+    // Copies an ASCII id; non ASCII ids are left to the String path
+    private boolean copyId(ByteBuffer buffer) {
+        idLength = fieldEnd[0] - fieldStart[0];
+        if (idLength > MAX_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < idLength; i++) {
+            byte b = buffer.get(fieldStart[0] + i);
+            if (b < 0) {
+                return false;
+            }
+            idBytes[i] = b;
+        }
+        return true;
+    }
+
+    // Plain decimal numbers only; anything else marks the row as failed
+    private double parseDouble(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                digits++;
+                if (mantissa != 0 || b != '0') {
+                    significantDigits++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (inFraction) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                failed = true;
+                return 0;
+            }
+        }
+
+        // Exact (correctly rounded, same as Double.parseDouble) only while the
+        // mantissa and the power of ten are both exact doubles
+        if (digits == 0 || significantDigits > 15 || fractionDigits >= POWERS_OF_TEN.length) {
+            failed = true;
+            return 0;
+        }
+
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private int parseInt(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        if (i == end || end - i > 9) {
+            failed = true;
+            return 0;
+        }
+
+        int value = 0;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                failed = true;
+                return 0;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    // Same check as DataValidator.isValidId, without a regex Matcher
+    public boolean hasValidId() {
+        if (idLength < 6 || idLength > 9
+                || idBytes[0] != 'A' || idBytes[1] != 'P' || idBytes[2] != 'P') {
+            return false;
+        }
+        for (int i = 3; i < idLength; i++) {
+            if (idBytes[i] < '0' || idBytes[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getId() {
+        return new String(idBytes, 0, idLength, StandardCharsets.ISO_8859_1);
+    }
+
+    public double getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    public double getExistingDebt() {
+        return existingDebt;
+    }
+
+    public int getCreditScore() {
+        return creditScore;
+    }
+
+    public int getEmploymentMonths() {
+        return employmentMonths;
+    }
+
+    public double getLoanAmountRequested() {
+        return loanAmountRequested;
+    }
+}
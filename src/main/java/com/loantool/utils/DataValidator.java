@@ -138,6 +138,17 @@ public class DataValidator {
         return result;
     }
 
+    // Same rules as validateCSVRow for a row decoded by CSVFieldDecoder, without building
+    // messages. Callers fall back to validateCSVRow to report why a row failed.
+    public static boolean isValidRow(CSVFieldDecoder row) {
+        return row.hasValidId()
+                && isValidIncome(row.getMonthlyIncome())
+                && isValidDebt(row.getExistingDebt())
+                && isValidCreditScore(row.getCreditScore())
+                && isValidEmploymentDuration(row.getEmploymentMonths())
+                && isValidLoanAmount(row.getLoanAmountRequested());
+    }
+
     // Individual validation methods
     public static boolean isValidId(String id) {
         return id != null && ID_PATTERN.matcher(id).matches();
@@ -1,166 +1,358 @@
 package com.loantool.utils;
 
 import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.ApplicantStore;
+import com.loantool.models.DecisionTable;
 import com.loantool.models.LoanDecision;
+import com.loantool.models.OffHeapApplicantStore;
 import com.loantool.models.RiskTier;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.json.*;
 
 public class FileHandler {
+    public static final String BINARY_EXTENSION = ".bin";
+    // Below this size mapping or forking the file costs more than reading it
+    static final long SMALL_CSV_BYTES = 1L << 20; // 1 MB
+    // On-heap columns take about twice the input file size, so files above
+    // this share of the max heap get an off-heap store
+    static final int OFF_HEAP_HEAP_FRACTION = 4;
+
+    private static final String DECISIONS_CSV_HEADER = "ApplicantID,MonthlyIncome,ExistingDebt,CreditScore," +
+            "EmploymentMonths,LoanAmountRequested,RiskScore,RiskTier," +
+            "Approved,RecommendedLimit,DecisionReason\n";
+
+    // How loadApplicantsFromCSV(path, mode) reads the file
+    public enum CSVLoadMode {
+        BUFFERED,       // single thread, buffered channel
+        PARALLEL,       // fork-join chunks split on line boundaries
+        MEMORY_MAPPED   // single thread, fields parsed from mapped bytes
+    }
 
     public static List<Applicant> loadApplicantsFromCSV(String filePath) throws IOException {
         List<Applicant> applicants = new ArrayList<>();
-        List<String> validationErrors = new ArrayList<>();
 
-        List<String> lines = Files.readAllLines(Paths.get(filePath));
+        try (CSVApplicantReader reader = new CSVApplicantReader(filePath)) {
+            while (reader.hasNext()) {
+                applicants.add(reader.next());
+            }
 
-        if (lines.isEmpty()) {
-            throw new IOException("CSV file is empty");
+            // Report validation errors
+            reader.printValidationReport();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
 
-        // Validate header
-        String header = lines.get(0);
-        String[] headerParts = header.split(",");
-        if (headerParts.length < 6) {
-            throw new IOException(
-                    "Invalid CSV format. Expected: ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested");
+        return applicants;
+    }
+
+    public static List<Applicant> loadApplicantsFromCSV(String filePath, CSVLoadMode mode) throws IOException {
+        switch (mode) {
+            case PARALLEL:
+                return loadApplicantsFromCSVParallel(filePath);
+            case MEMORY_MAPPED:
+                return loadApplicantsFromCSVMapped(filePath);
+            default:
+                return loadApplicantsFromCSV(filePath);
         }
+    }
 
-        // Process data rows
-        for (int i = 1; i < lines.size(); i++) {
-            String line = lines.get(i);
+    // Picks the CSV load mode for a file of the given size on the given number of cores
+    public static CSVLoadMode chooseCSVLoadMode(long fileSize, int processors) {
+        if (fileSize < SMALL_CSV_BYTES) {
+            return CSVLoadMode.BUFFERED;
+        }
+        return processors > 1 ? CSVLoadMode.PARALLEL : CSVLoadMode.MEMORY_MAPPED;
+    }
 
-            // Skip empty lines
-            if (line.trim().isEmpty()) {
-                continue;
+    public static List<Applicant> loadApplicantsFromCSVMapped(String filePath) throws IOException {
+        List<Applicant> applicants = new ArrayList<>();
+
+        try (MappedCSVReader reader = new MappedCSVReader(filePath)) {
+            while (reader.hasNext()) {
+                applicants.add(reader.next());
             }
 
-            String[] parts = line.split(",");
+            reader.printValidationReport();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return applicants;
+    }
 
-            // Validate row
-            DataValidator.ValidationResult validation = DataValidator.validateCSVRow(parts, i + 1);
+    // Streams the CSV in batches so only one batch of applicants is held at a time.
+    // Returns the number of valid applicants handed to the consumer.
+    public static int streamApplicantsFromCSV(String filePath, int batchSize,
+            Consumer<List<Applicant>> batchConsumer) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
 
-            if (!validation.isValid()) {
-                validationErrors.add("Line " + (i + 1) + ": " + validation.getErrorMessages());
-                continue; // Skip invalid rows
+        try (CSVApplicantReader reader = new CSVApplicantReader(filePath)) {
+            List<Applicant> batch = new ArrayList<>(batchSize);
+            while (reader.readBatch(batch, batchSize) > 0) {
+                batchConsumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
             }
 
-            try {
-                String id = parts[0].trim();
-                double income = Double.parseDouble(parts[1].trim());
-                double debt = Double.parseDouble(parts[2].trim());
-                int creditScore = Integer.parseInt(parts[3].trim());
-                int employmentMonths = Integer.parseInt(parts[4].trim());
-                double loanAmount = Double.parseDouble(parts[5].trim());
-
-                applicants.add(new Applicant(id, income, debt, creditScore,
-                        employmentMonths, loanAmount));
-
-                // Log warnings if any
-                if (validation.hasWarnings()) {
-                    System.out.println("⚠️ Warning for line " + (i + 1) + ": " +
-                            validation.getWarningMessages());
-                }
+            reader.printValidationReport();
+            return reader.getLoadedCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Parses the CSV on the common fork-join pool; same rows, order and messages as loadApplicantsFromCSV
+    public static List<Applicant> loadApplicantsFromCSVParallel(String filePath) throws IOException {
+        ParallelCSVParser.ParseResult result = new ParallelCSVParser().parse(filePath);
+        result.printValidationReport();
+        return result.getApplicants();
+    }
+
+    // Loads applicants from either a binary applicant file or a CSV, detected by content
+    public static List<Applicant> loadApplicants(String filePath) throws IOException {
+        if (ApplicantBinaryFile.isBinaryFile(filePath)) {
+            return loadApplicantsFromBinary(filePath);
+        }
+        CSVLoadMode mode = chooseCSVLoadMode(new File(filePath).length(),
+                Runtime.getRuntime().availableProcessors());
+        return loadApplicantsFromCSV(filePath, mode);
+    }
+
+    // Loads applicants into columnar storage; binary files are copied block by block
+    public static ApplicantColumns loadApplicantColumns(String filePath) throws IOException {
+        ApplicantColumns columns = new ApplicantColumns();
+        if (ApplicantBinaryFile.isBinaryFile(filePath)) {
+            ApplicantBinaryFile.readBlocks(filePath, columns::addAll);
+        } else {
+            streamApplicantsFromCSV(filePath, 10_000, batch -> batch.forEach(columns::add));
+        }
+        return columns;
+    }
 
-            } catch (NumberFormatException e) {
-                validationErrors.add("Line " + (i + 1) + ": Invalid number format");
+    // Empty store for rows read from the given file: ApplicantColumns, or an off-heap store
+    // backed by a temporary mapped file when the file is large next to the heap.
+    // Release it with closeApplicantStore when done.
+    public static ApplicantStore newApplicantStore(String filePath) throws IOException {
+        if (new File(filePath).length() > Runtime.getRuntime().maxMemory() / OFF_HEAP_HEAP_FRACTION) {
+            return OffHeapApplicantStore.mapTemporaryFile();
+        }
+        return new ApplicantColumns();
+    }
+
+    public static void closeApplicantStore(ApplicantStore store) {
+        if (store instanceof Closeable) {
+            try {
+                ((Closeable) store).close();
+            } catch (IOException e) {
+                System.err.println("Error releasing applicant store: " + e.getMessage());
             }
         }
+    }
 
-        // Report validation errors
-        if (!validationErrors.isEmpty()) {
-            System.out.println("\n📋 VALIDATION REPORT:");
-            System.out.println("====================");
-            System.out.println("Loaded " + applicants.size() + " valid applicants");
-            System.out.println("Skipped " + validationErrors.size() + " invalid rows");
+    // Streams applicants in batches from either a binary applicant file or a CSV
+    public static int streamApplicants(String filePath, int batchSize,
+            Consumer<List<Applicant>> batchConsumer) throws IOException {
+        if (!ApplicantBinaryFile.isBinaryFile(filePath)) {
+            return streamApplicantsFromCSV(filePath, batchSize, batchConsumer);
+        }
 
-            if (applicants.size() > 0) {
-                System.out.println("\n❌ Validation Errors:");
-                for (String error : validationErrors) {
-                    System.out.println(error);
+        int[] loaded = { 0 };
+        ApplicantBinaryFile.readBlocks(filePath, (rows, ids, income, debt, credit, employment, loan) -> {
+            for (int start = 0; start < rows; start += batchSize) {
+                int end = Math.min(rows, start + batchSize);
+                List<Applicant> batch = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    batch.add(new Applicant(ids[i], income[i], debt[i], credit[i], employment[i], loan[i]));
                 }
+                batchConsumer.accept(batch);
             }
+            loaded[0] += rows;
+        });
+        return loaded[0];
+    }
+
+    // Uses the binary copy of a CSV (same name, .bin extension) when it is at least as new
+    public static String preferBinaryFile(String csvPath) {
+        String binaryPath = csvPath.endsWith(".csv")
+                ? csvPath.substring(0, csvPath.length() - 4) + BINARY_EXTENSION
+                : csvPath + BINARY_EXTENSION;
+        File csvFile = new File(csvPath);
+        File binaryFile = new File(binaryPath);
+
+        if (binaryFile.isFile() && (!csvFile.exists() || binaryFile.lastModified() >= csvFile.lastModified())
+                && ApplicantBinaryFile.isBinaryFile(binaryPath)) {
+            return binaryPath;
         }
+        return csvPath;
+    }
 
-        return applicants;
+    public static List<Applicant> loadApplicantsFromBinary(String filePath) throws IOException {
+        return ApplicantBinaryFile.load(filePath);
+    }
+
+    public static void saveApplicantsToBinary(List<Applicant> applicants, String filePath) throws IOException {
+        ApplicantBinaryFile.save(applicants, filePath);
+    }
+
+    // One-off conversion of a CSV into the binary format, streamed so any file size works
+    public static long convertCSVToBinary(String csvPath, String binaryPath) throws IOException {
+        try (CSVApplicantReader reader = new CSVApplicantReader(csvPath);
+             ApplicantBinaryFile.Writer writer = new ApplicantBinaryFile.Writer(binaryPath)) {
+            while (reader.hasNext()) {
+                writer.write(reader.next());
+            }
+            writer.finish();
+            reader.printValidationReport();
+            return writer.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static CSVApplicantReader openApplicantReader(String filePath) throws IOException {
+        return new CSVApplicantReader(filePath);
     }
 
     public static void saveDecisionsToCSV(List<LoanDecision> decisions, String filePath)
             throws IOException {
-        // Create directory if it doesn't exist
-        File outputDir = new File(filePath).getParentFile();
-        if (outputDir != null && !outputDir.exists()) {
-            outputDir.mkdirs();
-        }
+        createParentDirectory(filePath);
 
         try (FileWriter writer = new FileWriter(filePath)) {
-            // Write header
-            writer.write("ApplicantID,MonthlyIncome,ExistingDebt,CreditScore," +
-                    "EmploymentMonths,LoanAmountRequested,RiskScore,RiskTier," +
-                    "Approved,RecommendedLimit,DecisionReason\n");
-
-            // Write data
+            writer.write(DECISIONS_CSV_HEADER);
             for (LoanDecision decision : decisions) {
                 Applicant applicant = decision.getApplicant();
+                writer.write(decisionCSVRow(applicant.getId(), applicant.getMonthlyIncome(),
+                        applicant.getExistingDebt(), applicant.getCreditScore(),
+                        applicant.getEmploymentDuration(), applicant.getLoanAmountRequested(),
+                        applicant.getRiskScore(), decision.getRiskTier(), decision.isApproved(),
+                        decision.getRecommendedLimit(), decision.getDecisionReason()));
+            }
+        }
+    }
 
-                writer.write(String.format("%s,%.2f,%.2f,%d,%d,%.2f,%.1f,%s,%s,%.2f,\"%s\"\n",
-                        applicant.getId(),
-                        applicant.getMonthlyIncome(),
-                        applicant.getExistingDebt(),
-                        applicant.getCreditScore(),
-                        applicant.getEmploymentDuration(),
-                        applicant.getLoanAmountRequested(),
-                        applicant.getRiskScore(),
-                        decision.getRiskTier().name(),
-                        decision.isApproved() ? "YES" : "NO",
-                        decision.getRecommendedLimit(),
-                        decision.getDecisionReason().replace("\"", "\"\"") // Escape quotes
-                ));
+    // Same file, read from the table's columns without building a LoanDecision per row
+    public static void saveDecisionsToCSV(DecisionTable table, String filePath)
+            throws IOException {
+        createParentDirectory(filePath);
+        ApplicantStore applicants = table.getApplicants();
+
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write(DECISIONS_CSV_HEADER);
+            for (int i = 0; i < table.size(); i++) {
+                int row = table.getRow(i);
+                writer.write(decisionCSVRow(applicants.getId(row), applicants.getMonthlyIncome(row),
+                        applicants.getExistingDebt(row), applicants.getCreditScore(row),
+                        applicants.getEmploymentDuration(row), applicants.getLoanAmountRequested(row),
+                        applicants.getRiskScore(row), table.getRiskTier(i), table.isApproved(i),
+                        table.getRecommendedLimit(i), table.getDecisionReason(i)));
             }
         }
     }
 
+    private static String decisionCSVRow(String id, double monthlyIncome, double existingDebt,
+                                         int creditScore, int employmentMonths, double loanAmountRequested,
+                                         double riskScore, RiskTier riskTier, boolean approved,
+                                         double recommendedLimit, String decisionReason) {
+        return String.format("%s,%.2f,%.2f,%d,%d,%.2f,%.1f,%s,%s,%.2f,\"%s\"\n",
+                id,
+                monthlyIncome,
+                existingDebt,
+                creditScore,
+                employmentMonths,
+                loanAmountRequested,
+                riskScore,
+                riskTier.name(),
+                approved ? "YES" : "NO",
+                recommendedLimit,
+                decisionReason.replace("\"", "\"\"") // Escape quotes
+        );
+    }
+
     public static void saveDecisionsToJSON(List<LoanDecision> decisions, String filePath)
             throws IOException {
         JSONArray jsonArray = new JSONArray();
 
         for (LoanDecision decision : decisions) {
-            JSONObject obj = new JSONObject();
             Applicant applicant = decision.getApplicant();
+            jsonArray.put(decisionJSON(applicant.getId(), applicant.getMonthlyIncome(),
+                    applicant.getExistingDebt(), applicant.getCreditScore(),
+                    applicant.getEmploymentDuration(), applicant.getLoanAmountRequested(),
+                    applicant.getRiskScore(), decision.getRiskTier(), decision.isApproved(),
+                    decision.getDecisionReason(), decision.getRecommendedLimit(),
+                    decision.getDecisionTime()));
+        }
 
-            obj.put("applicantId", applicant.getId());
-            obj.put("monthlyIncome", applicant.getMonthlyIncome());
-            obj.put("existingDebt", applicant.getExistingDebt());
-            obj.put("creditScore", applicant.getCreditScore());
-            obj.put("employmentMonths", applicant.getEmploymentDuration());
-            obj.put("loanAmountRequested", applicant.getLoanAmountRequested());
-            obj.put("riskScore", applicant.getRiskScore());
-            obj.put("riskTier", decision.getRiskTier().name());
-            obj.put("approved", decision.isApproved());
-            obj.put("decisionReason", decision.getDecisionReason());
-            obj.put("recommendedLimit", decision.getRecommendedLimit());
-            obj.put("decisionTime", decision.getDecisionTime().toString());
-            obj.put("interestRate", decision.getRiskTier().getBaseInterestRate());
+        writeJSON(jsonArray, filePath);
+    }
 
-            jsonArray.put(obj);
+    // Same file, read from the table's columns without building a LoanDecision per row
+    public static void saveDecisionsToJSON(DecisionTable table, String filePath)
+            throws IOException {
+        JSONArray jsonArray = new JSONArray();
+        ApplicantStore applicants = table.getApplicants();
+        ZoneId zone = ZoneId.systemDefault();
+
+        for (int i = 0; i < table.size(); i++) {
+            int row = table.getRow(i);
+            jsonArray.put(decisionJSON(applicants.getId(row), applicants.getMonthlyIncome(row),
+                    applicants.getExistingDebt(row), applicants.getCreditScore(row),
+                    applicants.getEmploymentDuration(row), applicants.getLoanAmountRequested(row),
+                    applicants.getRiskScore(row), table.getRiskTier(i), table.isApproved(i),
+                    table.getDecisionReason(i), table.getRecommendedLimit(i),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(table.getDecisionTimeMillis(i)), zone)));
         }
 
-        // Create directory if it doesn't exist
-        File outputDir = new File(filePath).getParentFile();
-        if (outputDir != null && !outputDir.exists()) {
-            outputDir.mkdirs();
-        }
+        writeJSON(jsonArray, filePath);
+    }
+
+    private static JSONObject decisionJSON(String id, double monthlyIncome, double existingDebt,
+                                           int creditScore, int employmentMonths, double loanAmountRequested,
+                                           double riskScore, RiskTier riskTier, boolean approved,
+                                           String decisionReason, double recommendedLimit,
+                                           LocalDateTime decisionTime) {
+        JSONObject obj = new JSONObject();
+        obj.put("applicantId", id);
+        obj.put("monthlyIncome", monthlyIncome);
+        obj.put("existingDebt", existingDebt);
+        obj.put("creditScore", creditScore);
+        obj.put("employmentMonths", employmentMonths);
+        obj.put("loanAmountRequested", loanAmountRequested);
+        obj.put("riskScore", riskScore);
+        obj.put("riskTier", riskTier.name());
+        obj.put("approved", approved);
+        obj.put("decisionReason", decisionReason);
+        obj.put("recommendedLimit", recommendedLimit);
+        obj.put("decisionTime", decisionTime.toString());
+        obj.put("interestRate", riskTier.getBaseInterestRate());
+        return obj;
+    }
+
+    private static void writeJSON(JSONArray jsonArray, String filePath) throws IOException {
+        createParentDirectory(filePath);
 
         try (FileWriter file = new FileWriter(filePath)) {
             file.write(jsonArray.toString(2));
         }
     }
 
+    private static void createParentDirectory(String filePath) {
+        File outputDir = new File(filePath).getParentFile();
+        if (outputDir != null && !outputDir.exists()) {
+            outputDir.mkdirs();
+        }
+    }
+
     public static List<LoanDecision> loadDecisionsFromJSON(String filePath)
             throws IOException {
         List<LoanDecision> decisions = new ArrayList<>();
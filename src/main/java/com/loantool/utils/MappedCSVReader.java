@@ -0,0 +1,238 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads applicants from a memory-mapped CSV file without decoding rows into Strings.
+ * Fields are located and parsed straight from the mapped bytes by a CSVFieldDecoder;
+ * the applicant ID is the only String created for a valid row. Rows that do not match
+ * the plain fast path (invalid values, exponents, very long numbers...) are decoded and
+ * handled exactly like CSVApplicantReader does, so results and error messages are the same.
+ */
+public class MappedCSVReader implements Iterator<Applicant>, Closeable {
+    private static final long WINDOW_SIZE = 256L << 20; // 256 MB per mapping
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int position;
+    private int lineNumber;
+
+    // Bounds of the current line, relative to the window
+    private int lineStart;
+    private int lineEnd;
+    private final CSVFieldDecoder decoder = new CSVFieldDecoder();
+
+    private Applicant nextApplicant;
+    private int loadedCount;
+    private int skippedCount;
+    private final List<String> validationErrors = new ArrayList<>();
+
+    public MappedCSVReader(String filePath) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        this.fileSize = channel.size();
+
+        try {
+            if (fileSize == 0) {
+                throw new IOException("CSV file is empty");
+            }
+            mapWindow(0);
+
+            // Validate header
+            if (!nextLine()) {
+                throw new IOException("CSV file is empty");
+            }
+            String header = decodeCurrentLine();
+            if (header.split(",").length < 6) {
+                throw new IOException(
+                        "Invalid CSV format. Expected: ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested");
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextApplicant == null) {
+            try {
+                nextApplicant = readApplicant();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextApplicant != null;
+    }
+
+    @Override
+    public Applicant next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Applicant applicant = nextApplicant;
+        nextApplicant = null;
+        return applicant;
+    }
+
+    // Fill the batch with up to batchSize applicants; returns how many were added
+    public int readBatch(List<Applicant> batch, int batchSize) {
+        int added = 0;
+        while (added < batchSize && hasNext()) {
+            batch.add(next());
+            added++;
+        }
+        return added;
+    }
+
+    private Applicant readApplicant() throws IOException {
+        while (nextLine()) {
+            // Skip empty lines
+            if (CSVFieldDecoder.isBlank(window, lineStart, lineEnd)) {
+                continue;
+            }
+
+            Applicant applicant = parseFast();
+            if (applicant == null) {
+                applicant = parseSlow();
+            }
+            if (applicant != null) {
+                loadedCount++;
+                return applicant;
+            }
+        }
+        return null;
+    }
+
+    // Decodes the current line directly from the mapped bytes; null if the row needs the slow path
+    private Applicant parseFast() {
+        if (decoder.decode(window, lineStart, lineEnd) && DataValidator.isValidRow(decoder)) {
+            return decoder.toApplicant();
+        }
+        return null;
+    }
+
+    // Same handling as the buffered reader, used for rows the fast path rejected
+    private Applicant parseSlow() {
+        String[] parts = decodeCurrentLine().split(",");
+
+        DataValidator.ValidationResult validation = DataValidator.validateCSVRow(parts, lineNumber);
+        if (!validation.isValid()) {
+            recordError("Line " + lineNumber + ": " + validation.getErrorMessages());
+            return null;
+        }
+
+        try {
+            return CSVApplicantReader.buildApplicant(parts);
+        } catch (NumberFormatException e) {
+            recordError("Line " + lineNumber + ": Invalid number format");
+            return null;
+        }
+    }
+
+    // Advances to the next line, remapping when a line crosses the window end.
+    // Lines end at "\n", "\r\n" or a lone "\r", like CSVApplicantReader.
+    private boolean nextLine() throws IOException {
+        while (true) {
+            int limit = window.limit();
+            long windowEnd = windowStart + limit;
+            for (int i = position; i < limit; i++) {
+                byte b = window.get(i);
+                if (b == '\n') {
+                    setLine(position, i);
+                    position = i + 1;
+                    return true;
+                }
+                if (b == '\r') {
+                    if (i + 1 < limit) {
+                        setLine(position, i);
+                        position = window.get(i + 1) == '\n' ? i + 2 : i + 1;
+                        return true;
+                    }
+                    if (windowEnd >= fileSize) {
+                        setLine(position, i);
+                        position = limit;
+                        return true;
+                    }
+                    break; // the next window decides between "\r" and "\r\n"
+                }
+            }
+
+            if (windowEnd >= fileSize) {
+                if (position == limit) {
+                    return false;
+                }
+                setLine(position, limit);
+                position = limit;
+                return true;
+            }
+
+            if (position == 0) {
+                throw new IOException("Line " + (lineNumber + 1) + " is longer than " + WINDOW_SIZE + " bytes");
+            }
+            mapWindow(windowStart + position);
+        }
+    }
+
+    private void setLine(int start, int end) {
+        lineNumber++;
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private void mapWindow(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+        position = 0;
+    }
+
+    private String decodeCurrentLine() {
+        byte[] bytes = new byte[lineEnd - lineStart];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = window.get(lineStart + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void recordError(String message) {
+        skippedCount++;
+        if (validationErrors.size() < CSVApplicantReader.MAX_REPORTED_ERRORS) {
+            validationErrors.add(message);
+        }
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public List<String> getValidationErrors() {
+        return validationErrors;
+    }
+
+    public void printValidationReport() {
+        CSVApplicantReader.printValidationReport(loadedCount, skippedCount, validationErrors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,285 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses an applicant CSV on a fork-join pool.
+ * The file is cut into byte ranges that start right after a newline, each range is
+ * parsed independently, and the results are joined back together in file order.
+ * Invalid rows are re-validated once the absolute line numbers are known, so the
+ * error messages match the ones produced by the sequential loader.
+ */
+public class ParallelCSVParser {
+    private static final int MIN_CHUNK_BYTES = 1 << 20;  // 1 MB
+    private static final int MAX_CHUNK_BYTES = 64 << 20; // 64 MB
+    private static final int SCAN_WINDOW = 8 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public ParallelCSVParser() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelCSVParser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ParseResult parse(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IOException("CSV file is empty");
+            }
+
+            // Validate header
+            long dataStart = findLineEnd(channel, 0, size);
+            ByteBuffer headerBytes = ByteBuffer.allocate((int) Math.min(dataStart, Integer.MAX_VALUE));
+            channel.read(headerBytes, 0);
+            String header = new String(headerBytes.array(), 0, headerBytes.position(), StandardCharsets.UTF_8);
+            if (header.split(",").length < 6) {
+                throw new IOException(
+                        "Invalid CSV format. Expected: ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested");
+            }
+
+            ChunkTask[] chunks = splitIntoChunks(channel, dataStart, size);
+            pool.invoke(new ParseAllTask(chunks));
+
+            for (ChunkTask chunk : chunks) {
+                if (chunk.failure != null) {
+                    throw chunk.failure;
+                }
+            }
+
+            return mergeChunks(chunks);
+        }
+    }
+
+    private ChunkTask[] splitIntoChunks(FileChannel channel, long dataStart, long size) throws IOException {
+        long dataBytes = size - dataStart;
+        long chunkCount = Math.max(1, Math.min(pool.getParallelism() * 4L, dataBytes / MIN_CHUNK_BYTES));
+        chunkCount = Math.max(chunkCount, (dataBytes + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+
+        List<ChunkTask> chunks = new ArrayList<>();
+        long start = dataStart;
+        for (long i = 1; i <= chunkCount && start < size; i++) {
+            long end = i == chunkCount ? size : findLineEnd(channel, dataStart + dataBytes * i / chunkCount, size);
+            if (end > start) {
+                chunks.add(new ChunkTask(channel, start, end));
+                start = end;
+            }
+        }
+        return chunks.toArray(new ChunkTask[0]);
+    }
+
+    // Returns the offset just past the first line terminator ("\n", "\r\n" or "\r") at or after
+    // position (or the file size)
+    private static long findLineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = window.get(i);
+                if (b == '\n') {
+                    return position + i + 1;
+                }
+                if (b == '\r') {
+                    long next = position + i + 1;
+                    boolean crlf = i + 1 < read ? window.get(i + 1) == '\n' : isNewlineAt(channel, next, size);
+                    return crlf ? next + 1 : next;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static boolean isNewlineAt(FileChannel channel, long position, long size) throws IOException {
+        if (position >= size) {
+            return false;
+        }
+        ByteBuffer single = ByteBuffer.allocate(1);
+        return channel.read(single, position) == 1 && single.get(0) == '\n';
+    }
+
+    private ParseResult mergeChunks(ChunkTask[] chunks) {
+        int total = 0;
+        for (ChunkTask chunk : chunks) {
+            total += chunk.applicants.size();
+        }
+
+        List<Applicant> applicants = new ArrayList<>(total);
+        List<String> validationErrors = new ArrayList<>();
+        int skippedCount = 0;
+        int linesBefore = 1; // header
+
+        for (ChunkTask chunk : chunks) {
+            applicants.addAll(chunk.applicants);
+
+            for (InvalidRow row : chunk.invalidRows) {
+                skippedCount++;
+                if (validationErrors.size() < CSVApplicantReader.MAX_REPORTED_ERRORS) {
+                    int lineNumber = linesBefore + row.relativeLine;
+                    if (row.numberFormatError) {
+                        validationErrors.add("Line " + lineNumber + ": Invalid number format");
+                    } else {
+                        DataValidator.ValidationResult validation =
+                                DataValidator.validateCSVRow(row.line.split(","), lineNumber);
+                        validationErrors.add("Line " + lineNumber + ": " + validation.getErrorMessages());
+                    }
+                }
+            }
+            linesBefore += chunk.lineCount;
+        }
+
+        return new ParseResult(applicants, skippedCount, validationErrors);
+    }
+
+    private static class InvalidRow {
+        final int relativeLine;
+        final String line;
+        final boolean numberFormatError;
+
+        InvalidRow(int relativeLine, String line, boolean numberFormatError) {
+            this.relativeLine = relativeLine;
+            this.line = line;
+            this.numberFormatError = numberFormatError;
+        }
+    }
+
+    private static class ParseAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient ChunkTask[] chunks;
+
+        ParseAllTask(ChunkTask[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(chunks);
+        }
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long start;
+        private final long end;
+
+        transient List<Applicant> applicants = new ArrayList<>();
+        transient List<InvalidRow> invalidRows = new ArrayList<>();
+        transient IOException failure;
+        int lineCount;
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                parseLines(buffer.array(), buffer.position());
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        private void parseLines(byte[] bytes, int length) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+            CSVFieldDecoder decoder = new CSVFieldDecoder();
+
+            int lineStart = 0;
+            while (lineStart < length) {
+                // Lines end at "\n", "\r\n" or a lone "\r"; chunks never split a "\r\n"
+                int lineEnd = lineStart;
+                while (lineEnd < length && bytes[lineEnd] != '\n' && bytes[lineEnd] != '\r') {
+                    lineEnd++;
+                }
+                lineCount++;
+
+                // Skip empty lines
+                if (!CSVFieldDecoder.isBlank(buffer, lineStart, lineEnd)) {
+                    if (decoder.decode(buffer, lineStart, lineEnd) && DataValidator.isValidRow(decoder)) {
+                        applicants.add(decoder.toApplicant());
+                    } else {
+                        parseLine(new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                    }
+                }
+                lineStart = lineEnd + 1;
+                if (lineEnd < length && bytes[lineEnd] == '\r' && lineStart < length && bytes[lineStart] == '\n') {
+                    lineStart++;
+                }
+            }
+        }
+
+        // String path for rows the decoder did not accept
+        private void parseLine(String line) {
+            String[] parts = line.split(",");
+
+            // Line numbers are only known after all chunks finish, so invalid rows
+            // are kept and their messages are built during the merge
+            if (!DataValidator.validateCSVRow(parts, lineCount).isValid()) {
+                invalidRows.add(new InvalidRow(lineCount, line, false));
+                return;
+            }
+
+            try {
+                applicants.add(CSVApplicantReader.buildApplicant(parts));
+            } catch (NumberFormatException e) {
+                invalidRows.add(new InvalidRow(lineCount, line, true));
+            }
+        }
+    }
+
+    public static class ParseResult {
+        private final List<Applicant> applicants;
+        private final int skippedCount;
+        private final List<String> validationErrors;
+
+        ParseResult(List<Applicant> applicants, int skippedCount, List<String> validationErrors) {
+            this.applicants = applicants;
+            this.skippedCount = skippedCount;
+            this.validationErrors = validationErrors;
+        }
+
+        public List<Applicant> getApplicants() {
+            return applicants;
+        }
+
+        public int getSkippedCount() {
+            return skippedCount;
+        }
+
+        public List<String> getValidationErrors() {
+            return validationErrors;
+        }
+
+        public void printValidationReport() {
+            CSVApplicantReader.printValidationReport(applicants.size(), skippedCount, validationErrors);
+        }
+    }
+}
@@ -3,19 +3,25 @@ package com.loantool.utils;
 import com.loantool.datastructures.ApplicantBST;
 import com.loantool.datastructures.DecisionLinkedList;
 import com.loantool.models.Applicant;
+import com.loantool.models.DecisionTable;
 import com.loantool.models.LoanDecision;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Holds the latest processed data including BST and Linked List structures.
  * Shared across panels for BST queries and Linked List audit trail.
+ *
+ * Data set from a DecisionTable stays packed: no BST, linked list or decision list is built
+ * for it, and findInRange and getAuditTrail read the table instead.
  */
 public class ProcessedDataContext {
     private static ProcessedDataContext instance;
     private ApplicantBST applicantBST;
     private DecisionLinkedList decisionLinkedList;
     private List<LoanDecision> lastDecisions;
+    private DecisionTable decisionTable;
 
     private ProcessedDataContext() {}
 
@@ -26,8 +32,9 @@ public class ProcessedDataContext {
         return instance;
     }
 
-    public void setProcessedData(List<Applicant> sortedApplicants, List<LoanDecision> decisions) {
+    public synchronized void setProcessedData(List<Applicant> sortedApplicants, List<LoanDecision> decisions) {
         this.lastDecisions = decisions;
+        releaseDecisionTable();
 
         // Build BST from applicants (by risk score)
         applicantBST = new ApplicantBST();
@@ -40,8 +47,9 @@ public class ProcessedDataContext {
         decisionLinkedList.addAll(decisions);
     }
 
-    public void setFromLoadedDecisions(List<LoanDecision> decisions) {
+    public synchronized void setFromLoadedDecisions(List<LoanDecision> decisions) {
         this.lastDecisions = decisions;
+        releaseDecisionTable();
         decisionLinkedList = new DecisionLinkedList();
         decisionLinkedList.addAll(decisions);
 
@@ -52,19 +60,64 @@ public class ProcessedDataContext {
         }
     }
 
+    // Keeps large results packed; the decision list is cleared rather than rebuilt as objects
+    public synchronized void setDecisionTable(DecisionTable table) {
+        if (decisionTable != null && decisionTable.getApplicants() != table.getApplicants()) {
+            releaseDecisionTable();
+        }
+        this.decisionTable = table;
+        this.lastDecisions = null;
+        applicantBST = null;
+        decisionLinkedList = null;
+    }
+
+    // Drops the current table and closes its applicant store if that is off-heap
+    private void releaseDecisionTable() {
+        if (decisionTable != null) {
+            FileHandler.closeApplicantStore(decisionTable.getApplicants());
+            decisionTable = null;
+        }
+    }
+
+    // Null when the data comes from a DecisionTable
     public ApplicantBST getApplicantBST() {
         return applicantBST;
     }
 
+    // Null when the data comes from a DecisionTable
     public DecisionLinkedList getDecisionLinkedList() {
         return decisionLinkedList;
     }
 
-    public List<LoanDecision> getLastDecisions() {
+    // Risk score range query: the BST, or a scan of the table's score column
+    public synchronized List<Applicant> findInRange(double minScore, double maxScore) {
+        if (decisionTable != null) {
+            return decisionTable.findInRange(minScore, maxScore);
+        }
+        return applicantBST != null ? applicantBST.findInRange(minScore, maxScore) : new ArrayList<>();
+    }
+
+    // Audit trail of the decisions in order, or null if nothing is loaded
+    public synchronized String getAuditTrail() {
+        if (decisionTable != null) {
+            return decisionTable.getAuditTrail();
+        }
+        return decisionLinkedList != null ? decisionLinkedList.getAuditTrail() : null;
+    }
+
+    public synchronized DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    // Null when the data comes from a DecisionTable
+    public synchronized List<LoanDecision> getLastDecisions() {
         return lastDecisions;
     }
 
-    public boolean hasData() {
+    public synchronized boolean hasData() {
+        if (decisionTable != null) {
+            return decisionTable.size() > 0;
+        }
         return lastDecisions != null && !lastDecisions.isEmpty();
     }
 }
\ No newline at end of file
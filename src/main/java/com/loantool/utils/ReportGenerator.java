@@ -1,5 +1,7 @@
 package com.loantool.utils;
 
+import com.loantool.algorithms.RiskClassifier;
+import com.loantool.models.ApplicantStore;
 import com.loantool.models.LoanDecision;
 import com.loantool.models.RiskTier;
 
@@ -47,18 +49,8 @@ public class ReportGenerator {
                 totalRecommended += decision.getRecommendedLimit();
             }
 
-            writer.write(String.format("Total Applicants: %d\n", total));
-            writer.write(String.format("Approved: %d (%.1f%%)\n",
-                    approved, (approved * 100.0) / total));
-            writer.write(String.format("Low Risk: %d (%.1f%%)\n",
-                    lowRisk, (lowRisk * 100.0) / total));
-            writer.write(String.format("Medium Risk: %d (%.1f%%)\n",
-                    mediumRisk, (mediumRisk * 100.0) / total));
-            writer.write(String.format("High Risk: %d (%.1f%%)\n",
-                    highRisk, (highRisk * 100.0) / total));
-            writer.write(String.format("\nTotal Amount Requested: $%,.2f\n", totalRequested));
-            writer.write(String.format("Total Recommended Limit: $%,.2f\n", totalRecommended));
-
+            writeSummary(writer, total, approved, lowRisk, mediumRisk, highRisk,
+                    totalRequested, totalRecommended);
             writer.write("\nDETAILED DECISIONS\n");
             writer.write("===================\n");
 
@@ -77,4 +69,67 @@ public class ReportGenerator {
             }
         }
     }
+
+    // Summary statistics for scored rows of an applicant store (e.g. off-heap), aggregated
+    // in one pass without creating LoanDecision objects; the rows are too many to list
+    public static void generateSummaryReport(ApplicantStore store, int[] rows, String filePath)
+            throws IOException {
+        RiskClassifier classifier = new RiskClassifier();
+        int approved = 0;
+        int lowRisk = 0, mediumRisk = 0, highRisk = 0;
+        double totalRequested = 0, totalRecommended = 0;
+
+        for (int row : rows) {
+            double score = store.getRiskScore(row);
+            RiskTier tier = classifier.classifyTier(score);
+            boolean isApproved = RiskClassifier.isApproved(tier, score);
+            if (isApproved)
+                approved++;
+
+            switch (tier) {
+                case LOW_RISK:
+                    lowRisk++;
+                    break;
+                case MEDIUM_RISK:
+                    mediumRisk++;
+                    break;
+                case HIGH_RISK:
+                    highRisk++;
+                    break;
+            }
+
+            double requested = store.getLoanAmountRequested(row);
+            totalRequested += requested;
+            totalRecommended += LoanDecision.calculateRecommendedLimit(isApproved, tier,
+                    store.getMonthlyIncome(row), requested);
+        }
+
+        try (FileWriter writer = new FileWriter(filePath)) {
+            writer.write("LOAN ELIGIBILITY SUMMARY REPORT\n");
+            writer.write("===============================\n\n");
+            writer.write("Generated: " + LocalDateTime.now().format(
+                    DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "\n\n");
+
+            writer.write("SUMMARY STATISTICS\n");
+            writer.write("==================\n");
+            writeSummary(writer, rows.length, approved, lowRisk, mediumRisk, highRisk,
+                    totalRequested, totalRecommended);
+        }
+    }
+
+    private static void writeSummary(FileWriter writer, int total, int approved, int lowRisk,
+            int mediumRisk, int highRisk, double totalRequested, double totalRecommended)
+            throws IOException {
+        writer.write(String.format("Total Applicants: %d\n", total));
+        writer.write(String.format("Approved: %d (%.1f%%)\n",
+                approved, (approved * 100.0) / total));
+        writer.write(String.format("Low Risk: %d (%.1f%%)\n",
+                lowRisk, (lowRisk * 100.0) / total));
+        writer.write(String.format("Medium Risk: %d (%.1f%%)\n",
+                mediumRisk, (mediumRisk * 100.0) / total));
+        writer.write(String.format("High Risk: %d (%.1f%%)\n",
+                highRisk, (highRisk * 100.0) / total));
+        writer.write(String.format("\nTotal Amount Requested: $%,.2f\n", totalRequested));
+        writer.write(String.format("Total Recommended Limit: $%,.2f\n", totalRecommended));
+    }
 }
\ No newline at end of file
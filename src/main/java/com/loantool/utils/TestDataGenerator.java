@@ -1,12 +1,20 @@
 package com.loantool.utils;
 
+import com.loantool.models.Applicant;
+
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 public class TestDataGenerator {
+    // Applicant IDs are APP plus at most 6 digits, so no more rows can get distinct valid IDs
+    public static final int MAX_RECORDS = 999_999;
 
     public static void generateCSV(String filePath, int numberOfRecords) throws IOException {
+        checkRecordCount(numberOfRecords);
+
         try (FileWriter writer = new FileWriter(filePath)) {
 
             writer.write("ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested\n");
@@ -31,6 +39,35 @@ public class TestDataGenerator {
         System.out.println("✅ Generated " + numberOfRecords + " test records to " + filePath);
     }
 
+    // Same distribution as generateCSV, kept in memory (values rounded to cents like the CSV).
+    // Not limited to MAX_RECORDS: IDs stay unique by growing past 6 digits, which is fine
+    // in memory but would not pass DataValidator if written to a CSV.
+    public static List<Applicant> generateApplicants(int numberOfRecords) {
+        List<Applicant> applicants = new ArrayList<>(numberOfRecords);
+        Random random = new Random(42);
+
+        for (int i = 1; i <= numberOfRecords; i++) {
+            String id = String.format("APP%04d", i);
+            double income = 1500 + random.nextDouble() * 8500;
+            double debt = random.nextDouble() * income * 0.8;
+            int creditScore = 350 + random.nextInt(500);
+            int employmentMonths = random.nextInt(60);
+            double loanAmount = 1000 + random.nextDouble() * 19000;
+
+            applicants.add(new Applicant(id, Math.round(income * 100) / 100.0, Math.round(debt * 100) / 100.0,
+                    creditScore, employmentMonths, Math.round(loanAmount * 100) / 100.0));
+        }
+
+        return applicants;
+    }
+
+    private static void checkRecordCount(int numberOfRecords) {
+        if (numberOfRecords > MAX_RECORDS) {
+            throw new IllegalArgumentException(
+                    "Cannot generate more than " + MAX_RECORDS + " records with unique IDs: " + numberOfRecords);
+        }
+    }
+
     public static void main(String[] args) {
         try {
             // Generate sample dataset
@@ -0,0 +1,83 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.EligibilityResult;
+import com.loantool.models.RejectionReason;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The bitset evaluator must flag the same rows and count the same first-failing reasons
+// as EligibilityEngine evaluating one applicant at a time
+class BitsetEligibilityEvaluatorTest {
+
+    @Test
+    void matchesEngineOnGeneratedApplicants() {
+        assertMatchesEngine(TestDataGenerator.generateApplicants(64 * 1000 + 13));
+    }
+
+    @Test
+    void matchesEngineOnThresholdBoundaries() {
+        RulesSnapshot rules = RulesConfig.getInstance().getSnapshot();
+        double income = rules.getMinIncomeThreshold();
+        int credit = rules.getMinCreditScore();
+        int months = rules.getMinEmploymentMonths();
+        List<Applicant> applicants = new ArrayList<>();
+
+        for (double rowIncome : new double[] { 0, income - 0.01, income, income + 0.01, income * 10 }) {
+            for (double debtRatio : new double[] { 0, rules.getMaxDebtToIncomeRatio(), rules.getMaxDebtToIncomeRatio() + 0.01 }) {
+                for (int rowCredit : new int[] { credit - 1, credit, 850 }) {
+                    for (int rowMonths : new int[] { months - 1, months, 120 }) {
+                        for (double loanRatio : new double[] { 1, rules.getMaxLoanToIncomeRatio(),
+                                rules.getMaxLoanToIncomeRatio() + 0.01 }) {
+                            applicants.add(new Applicant("APP" + (1000 + applicants.size()), rowIncome,
+                                    rowIncome * debtRatio, rowCredit, rowMonths, Math.max(1, rowIncome * loanRatio)));
+                        }
+                    }
+                }
+            }
+        }
+        assertMatchesEngine(applicants);
+    }
+
+    @Test
+    void emptyBatchHasNoEligibleRows() {
+        BitsetEligibilityEvaluator.Result result = new BitsetEligibilityEvaluator().evaluate(new ApplicantColumns());
+        assertEquals(0, result.getEligibleCount());
+        assertEquals(0, result.getEligibleRows().length);
+    }
+
+    private static void assertMatchesEngine(List<Applicant> applicants) {
+        EligibilityEngine engine = new EligibilityEngine();
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+        BitsetEligibilityEvaluator.Result result = new BitsetEligibilityEvaluator().evaluate(columns);
+
+        int[] expectedRows = new int[applicants.size()];
+        int eligibleCount = 0;
+        int[] expectedCounts = new int[RejectionReason.values().length];
+        for (int row = 0; row < applicants.size(); row++) {
+            EligibilityResult expected = engine.evaluate(applicants.get(row));
+            assertEquals(expected.isEligible(), result.isEligible(row), "row " + row);
+            if (expected.isEligible()) {
+                expectedRows[eligibleCount++] = row;
+            } else {
+                expectedCounts[expected.getReason().ordinal()]++;
+            }
+        }
+
+        assertEquals(applicants.size(), result.size());
+        assertArrayEquals(Arrays.copyOf(expectedRows, eligibleCount), result.getEligibleRows());
+        for (RejectionReason reason : RejectionReason.values()) {
+            assertEquals(expectedCounts[reason.ordinal()], result.getRejectedCount(reason), reason.name());
+        }
+        assertArrayEquals(engine.evaluateEligibility(columns), engine.evaluateEligibilityBitset(columns));
+    }
+}
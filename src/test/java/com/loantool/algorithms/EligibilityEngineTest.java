@@ -0,0 +1,59 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import com.loantool.models.RejectionReason;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EligibilityEngineTest {
+    private static final int COUNT = 200_000;
+
+    @Test
+    void parallelBatchMatchesSequentialEvaluation() {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(COUNT);
+        EligibilityEngine engine = new EligibilityEngine();
+
+        List<Applicant> expected = engine.evaluateEligibility(applicants);
+        Map<RejectionReason, Integer> expectedCounts = new EnumMap<>(RejectionReason.class);
+        for (RejectionReason reason : RejectionReason.values()) {
+            expectedCounts.put(reason, 0);
+        }
+        for (Applicant applicant : applicants) {
+            RejectionReason reason = engine.evaluate(applicant).getReason();
+            if (reason != null) {
+                expectedCounts.merge(reason, 1, Integer::sum);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (EligibilityEngine candidate : new EligibilityEngine[] {
+                    engine, new EligibilityEngine(RulePipeline.defaultPipeline(), true) }) {
+                EligibilityEngine.BatchResult result = candidate.evaluateEligibilityParallel(applicants, pool);
+
+                assertEquals(COUNT, result.getEvaluatedCount());
+                assertEquals(expected, result.getEligibleApplicants());
+                assertEquals(expectedCounts, result.getRejectionCounts());
+                assertEquals(RulePipeline.defaultPipeline().ops().length, result.getRuleOrder().size());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void adaptiveOrderKeepsTheEligibleSet() {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(COUNT);
+        List<Applicant> expected = new EligibilityEngine().evaluateEligibility(applicants);
+        EligibilityEngine adaptive = new EligibilityEngine(RulePipeline.defaultPipeline(), true);
+
+        assertEquals(expected, adaptive.evaluateEligibility(applicants));
+    }
+}
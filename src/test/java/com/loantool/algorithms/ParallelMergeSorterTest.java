@@ -0,0 +1,109 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Must return exactly MergeSorter's order, including the input order of equal scores
+class ParallelMergeSorterTest {
+
+    @Test
+    void matchesMergeSorterAcrossThresholds() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelMergeSorter sorter = new ParallelMergeSorter(pool);
+            int[] sizes = { 0, 1, 2, ParallelMergeSorter.INSERTION_SORT_THRESHOLD - 1,
+                    ParallelMergeSorter.INSERTION_SORT_THRESHOLD + 1, 1_000,
+                    ParallelMergeSorter.PARALLEL_THRESHOLD - 1, 3 * ParallelMergeSorter.PARALLEL_THRESHOLD + 5 };
+            for (int size : sizes) {
+                List<Applicant> applicants = applicants(size, 20, new Random(size));
+                List<Applicant> expected = new MergeSorter().sort(applicants);
+
+                assertSameOrder(expected, sorter.sort(applicants), "size " + size);
+                assertStable(applicants, sorter.sort(applicants));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sortsArrayInPlaceLikeList() {
+        List<Applicant> applicants = applicants(2 * ParallelMergeSorter.PARALLEL_THRESHOLD, 7, new Random(7));
+        Applicant[] array = applicants.toArray(new Applicant[0]);
+
+        new ParallelMergeSorter().sort(array);
+
+        assertSameOrder(new MergeSorter().sort(applicants), List.of(array), "array");
+    }
+
+    @Test
+    void presortedAndReversedInputStayStable() {
+        List<Applicant> applicants = applicants(ParallelMergeSorter.PARALLEL_THRESHOLD + 100, 5, new Random(3));
+        List<Applicant> sorted = new MergeSorter().sort(applicants);
+        List<Applicant> reversed = new ArrayList<>(sorted);
+        Collections.reverse(reversed);
+
+        ParallelMergeSorter sorter = new ParallelMergeSorter();
+        assertSameOrder(sorted, sorter.sort(sorted), "presorted");
+        assertSameOrder(new MergeSorter().sort(reversed), sorter.sort(reversed), "reversed");
+        assertStable(reversed, sorter.sort(reversed));
+    }
+
+    @Test
+    void ordersSpecialScoresLikeCompareTo() {
+        double[] scores = { 0.0, Double.NaN, -0.0, Double.NEGATIVE_INFINITY, 50.0,
+                Double.POSITIVE_INFINITY, -0.0, Double.NaN, 0.0, 50.0 };
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            Applicant a = new Applicant("APP" + i, 5000, 1000, 700, 24, 20000);
+            a.setRiskScore(scores[i]);
+            applicants.add(a);
+        }
+
+        assertSameOrder(new MergeSorter().sort(applicants), new ParallelMergeSorter().sort(applicants), "special");
+    }
+
+    // Scores drawn from a few distinct values, so most applicants tie with many others
+    private static List<Applicant> applicants(int count, int distinctScores, Random random) {
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Applicant a = new Applicant("APP" + i, 5000, 1000, 700, 24, 20000);
+            a.setRiskScore(random.nextInt(distinctScores) * 2.5);
+            applicants.add(a);
+        }
+        return applicants;
+    }
+
+    private static void assertSameOrder(List<Applicant> expected, List<Applicant> actual, String label) {
+        assertEquals(expected.size(), actual.size(), label);
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), label + ", position " + i);
+        }
+    }
+
+    // Equal scores keep their input order
+    private static void assertStable(List<Applicant> input, List<Applicant> sorted) {
+        Map<Applicant, Integer> inputPosition = new IdentityHashMap<>();
+        for (int i = 0; i < input.size(); i++) {
+            inputPosition.put(input.get(i), i);
+        }
+        for (int i = 1; i < sorted.size(); i++) {
+            Applicant previous = sorted.get(i - 1);
+            Applicant current = sorted.get(i);
+            assertTrue(previous.compareTo(current) <= 0, "out of order at " + i);
+            if (previous.compareTo(current) == 0) {
+                assertTrue(inputPosition.get(previous) < inputPosition.get(current), "unstable at " + i);
+            }
+        }
+    }
+}
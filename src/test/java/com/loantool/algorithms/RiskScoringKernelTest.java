@@ -0,0 +1,51 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.OffHeapApplicantStore;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every kernel path must return exactly Applicant.computeRiskScore, bit for bit
+class RiskScoringKernelTest {
+
+    @Test
+    void arrayKernelMatchesComputeRiskScore() {
+        double[] income = { 0, -100, 1500, 2000.01, 8000, 1e9, Double.MIN_VALUE, 3000 };
+        double[] debt = { 0, 50, 1499.99, 0, 12000, 1, 0, -10 };
+        int[] credit = { 300, 850, 299, 600, 720, 1000, 0, 651 };
+
+        double[] scores = RiskScoringKernel.score(income, debt, credit, income.length);
+        for (int i = 0; i < income.length; i++) {
+            assertEquals(Applicant.computeRiskScore(income[i], debt[i], credit[i]), scores[i], "row " + i);
+        }
+    }
+
+    @Test
+    void columnsStoresAndListsMatchAcrossBlocks() throws IOException {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(3 * 2048 + 17);
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+        RiskScoringKernel.score(columns);
+
+        try (OffHeapApplicantStore offHeap = OffHeapApplicantStore.allocateDirect()) {
+            applicants.forEach(offHeap::add);
+            RiskScoringKernel.score(offHeap);
+            RiskScoringKernel.scoreAll(applicants);
+
+            for (int row = 0; row < applicants.size(); row++) {
+                Applicant applicant = applicants.get(row);
+                double expected = Applicant.computeRiskScore(applicant.getMonthlyIncome(),
+                        applicant.getExistingDebt(), applicant.getCreditScore());
+                assertEquals(expected, columns.getRiskScore(row), "columns row " + row);
+                assertEquals(expected, offHeap.getRiskScore(row), "off-heap row " + row);
+                assertEquals(expected, applicant.getRiskScore(), "applicant row " + row);
+                assertTrue(applicant.isRiskScoreCurrent());
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.RiskTier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The lookup table must agree with the binary search it replaces for every score, not just typical ones
+class RiskTierTableTest {
+
+    private static final double[] EDGE_SCORES = {
+            Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+            -Double.MAX_VALUE, Double.MAX_VALUE, -1e12, 1e12, -0.0, Double.MIN_VALUE,
+            Integer.MIN_VALUE, Integer.MAX_VALUE, (double) Integer.MAX_VALUE + 1
+    };
+
+    @Test
+    void snapshotTableMatchesBinarySearchOverScoreRange() {
+        RulesSnapshot rules = RulesConfig.getInstance().copy().getSnapshot();
+        RiskTierTable table = RiskTierTable.forSnapshot(rules);
+        int[] thresholds = rules.getRiskThresholds();
+
+        assertEquals(rules.getVersion(), table.getRulesVersion());
+        assertMatches(table, thresholds);
+        for (int threshold : thresholds) {
+            assertEquals(RiskClassifier.binarySearchRiskTier(threshold, thresholds), table.tierFor(threshold));
+            assertEquals(RiskClassifier.binarySearchRiskTier(Math.nextDown((double) threshold), thresholds),
+                    table.tierFor(Math.nextDown((double) threshold)), "just below " + threshold);
+        }
+    }
+
+    @Test
+    void classifierUsesTableForCurrentRules() {
+        RiskClassifier classifier = new RiskClassifier();
+        int[] thresholds = RulesConfig.getInstance().getRiskThresholds();
+
+        for (int i = -200; i <= 1200; i++) {
+            double score = i / 10.0;
+            assertEquals(RiskClassifier.binarySearchRiskTier(score, thresholds), classifier.classifyTier(score),
+                    "score " + score);
+        }
+        assertSame(classifier.tierTable(), classifier.tierTable());
+    }
+
+    @Test
+    void handSetThresholdsMatchBinarySearch() {
+        int[][] cases = {
+                { 70, 40 },
+                { 40, 70 },         // out of order
+                { 50, 50 },         // duplicates
+                { 0, -20 },         // negative
+                { 100 },            // single
+                { 90, 60, 30 },     // more thresholds than tiers
+                { Integer.MAX_VALUE, Integer.MIN_VALUE + 1 }, // too wide for a table
+                { }
+        };
+        for (int[] thresholds : cases) {
+            RiskTierTable table = RiskTierTable.forThresholds(thresholds);
+            assertEquals(0, table.getRulesVersion());
+            assertMatches(table, thresholds);
+        }
+    }
+
+    @Test
+    void forThresholdsCopiesItsInput() {
+        int[] thresholds = { 70, 40 };
+        RiskTierTable table = RiskTierTable.forThresholds(thresholds);
+        thresholds[0] = 10;
+
+        assertEquals(RiskTier.MEDIUM_RISK, table.tierFor(50));
+    }
+
+    private static void assertMatches(RiskTierTable table, int[] thresholds) {
+        for (int i = -2000; i <= 12000; i++) {
+            double score = i / 100.0;
+            assertEquals(RiskClassifier.binarySearchRiskTier(score, thresholds), table.tierFor(score),
+                    "score " + score);
+        }
+        for (double score : EDGE_SCORES) {
+            assertEquals(RiskClassifier.binarySearchRiskTier(score, thresholds), table.tierFor(score),
+                    "score " + score);
+        }
+    }
+}
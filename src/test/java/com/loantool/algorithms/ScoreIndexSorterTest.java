@@ -0,0 +1,104 @@
+package com.loantool.algorithms;
+
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The primitive-key sort must reproduce MergeSorter exactly, ties and special scores included
+class ScoreIndexSorterTest {
+    private static final double[] SPECIAL_SCORES = {
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0.0, -0.0,
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 50.0
+    };
+
+    @Test
+    void listSortMatchesMergeSorter() {
+        int[] sizes = { 0, 1, 2, ScoreIndexSorter.INSERTION_SORT_THRESHOLD - 1,
+                ScoreIndexSorter.INSERTION_SORT_THRESHOLD + 1, 5_000 };
+        for (int size : sizes) {
+            List<Applicant> applicants = applicants(size, new Random(size));
+            List<Applicant> expected = new MergeSorter().sort(applicants);
+            List<Applicant> actual = new ScoreIndexSorter().sort(applicants);
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), actual.get(i), "size " + size + ", position " + i);
+            }
+        }
+    }
+
+    @Test
+    void sortRowsMatchesMergeSorter() {
+        List<Applicant> applicants = applicants(5_000, new Random(11));
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+
+        // All rows in store order, then a shuffled subset
+        int[] allRows = new int[columns.size()];
+        for (int i = 0; i < allRows.length; i++) {
+            allRows[i] = i;
+        }
+        int[] subset = new int[columns.size() / 3];
+        Random random = new Random(5);
+        for (int i = 0; i < subset.length; i++) {
+            subset[i] = random.nextInt(columns.size());
+        }
+
+        for (int[] rows : new int[][] { allRows, subset, {}, { 7 } }) {
+            int[] expected = new MergeSorter().sortRows(columns, rows);
+            int[] actual = new ScoreIndexSorter().sortRows(columns, rows);
+            assertArrayEquals(expected, actual);
+            assertNotSame(rows, actual);
+        }
+    }
+
+    @Test
+    void equalScoresKeepInputOrder() {
+        List<Applicant> applicants = applicants(3_000, new Random(2));
+        List<Applicant> sorted = new ScoreIndexSorter().sort(applicants);
+        for (int i = 1; i < sorted.size(); i++) {
+            Applicant previous = sorted.get(i - 1);
+            Applicant current = sorted.get(i);
+            assertTrue(previous.compareTo(current) <= 0, "out of order at " + i);
+            if (previous.compareTo(current) == 0) {
+                assertTrue(inputIndex(previous) < inputIndex(current), "unstable at " + i);
+            }
+        }
+
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+        int[] rows = new int[columns.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = rows.length - 1 - i; // Reversed, so ties must come out in descending row order
+        }
+        int[] sortedRows = new ScoreIndexSorter().sortRows(columns, rows);
+        for (int i = 1; i < sortedRows.length; i++) {
+            int cmp = Double.compare(columns.getRiskScore(sortedRows[i]), columns.getRiskScore(sortedRows[i - 1]));
+            assertTrue(cmp <= 0, "out of order at " + i);
+            if (cmp == 0) {
+                assertTrue(sortedRows[i - 1] > sortedRows[i], "unstable at " + i);
+            }
+        }
+    }
+
+    // Mostly tied scores from a few values, with the special values mixed in
+    private static List<Applicant> applicants(int count, Random random) {
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Applicant a = new Applicant("APP" + i, 5000, 1000, 700, 24, 20000);
+            a.setRiskScore(random.nextInt(4) == 0
+                    ? SPECIAL_SCORES[random.nextInt(SPECIAL_SCORES.length)]
+                    : random.nextInt(12) * 7.5);
+            applicants.add(a);
+        }
+        return applicants;
+    }
+
+    private static int inputIndex(Applicant applicant) {
+        return Integer.parseInt(applicant.getId().substring(3));
+    }
+}
@@ -0,0 +1,94 @@
+package com.loantool.algorithms;
+
+import com.loantool.config.RulesConfig;
+import com.loantool.config.RulesSnapshot;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.RiskTier;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// One pass over many variants must count what evaluating each variant on its own counts
+class WhatIfAnalyzerTest {
+    private static final double[] INCOME_THRESHOLDS = { 1500, 1800, 2000, 2200, 2500, 3000 };
+
+    @Test
+    void variantsMatchSeparateEvaluations() {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(50_000);
+        List<RulesConfig> variants = incomeVariants();
+        RulesConfig credit = RulesConfig.getInstance().copy();
+        credit.setMinCreditScore(700);
+        credit.setRiskThresholds(new int[] { 20, 50 });
+        variants.add(credit);
+
+        List<WhatIfAnalyzer.VariantResult> results = new WhatIfAnalyzer().evaluate(applicants, variants);
+        List<WhatIfAnalyzer.VariantResult> storeResults =
+                new WhatIfAnalyzer().evaluate(ApplicantColumns.fromApplicants(applicants), variants);
+
+        EligibilityEngine engine = new EligibilityEngine();
+        for (int v = 0; v < variants.size(); v++) {
+            RulesSnapshot rules = variants.get(v).getSnapshot();
+            RiskTierTable tiers = RiskTierTable.forSnapshot(rules);
+            int eligible = 0;
+            int approved = 0;
+            int[] tierCounts = new int[RiskTier.values().length];
+            for (Applicant applicant : applicants) {
+                if (!engine.evaluate(rules, applicant).isEligible()) {
+                    continue;
+                }
+                eligible++;
+                double score = Applicant.computeRiskScore(applicant.getMonthlyIncome(),
+                        applicant.getExistingDebt(), applicant.getCreditScore());
+                RiskTier tier = tiers.tierFor(score);
+                tierCounts[tier.ordinal()]++;
+                if (RiskClassifier.isApproved(tier, score)) {
+                    approved++;
+                }
+            }
+
+            for (WhatIfAnalyzer.VariantResult result : new WhatIfAnalyzer.VariantResult[] {
+                    results.get(v), storeResults.get(v) }) {
+                assertSame(variants.get(v), result.getConfig());
+                assertEquals(applicants.size(), result.getEvaluatedCount());
+                assertEquals(eligible, result.getEligibleCount(), "eligible, variant " + v);
+                assertEquals(approved, result.getApprovedCount(), "approved, variant " + v);
+                for (RiskTier tier : RiskTier.values()) {
+                    assertEquals(tierCounts[tier.ordinal()], result.getTierCount(tier), tier + ", variant " + v);
+                }
+            }
+        }
+    }
+
+    @Test
+    void incomeVariantsAgreeWithThresholdSweep() {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(50_000);
+        List<WhatIfAnalyzer.VariantResult> results = new WhatIfAnalyzer().evaluate(applicants, incomeVariants());
+        ThresholdSweep sweep = ThresholdSweep.build(applicants, ThresholdSweep.Dimension.MONTHLY_INCOME,
+                RulesConfig.getInstance().copy());
+
+        for (int i = 0; i < INCOME_THRESHOLDS.length; i++) {
+            double threshold = INCOME_THRESHOLDS[i];
+            WhatIfAnalyzer.VariantResult result = results.get(i);
+            assertEquals(sweep.getEligibleCount(threshold), result.getEligibleCount());
+            assertEquals(sweep.getHighRiskCount(threshold), result.getTierCount(RiskTier.HIGH_RISK));
+            assertEquals(sweep.getApprovedCount(threshold), result.getApprovedCount());
+            assertEquals(sweep.getApprovalRate(threshold), result.getEligibilityRate());
+            assertEquals(sweep.getHighRiskRate(threshold), result.getTierRate(RiskTier.HIGH_RISK));
+        }
+    }
+
+    private static List<RulesConfig> incomeVariants() {
+        List<RulesConfig> variants = new ArrayList<>();
+        for (double threshold : INCOME_THRESHOLDS) {
+            RulesConfig variant = RulesConfig.getInstance().copy();
+            variant.setMinIncomeThreshold(threshold);
+            variants.add(variant);
+        }
+        return variants;
+    }
+}
@@ -0,0 +1,100 @@
+package com.loantool.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulesFileWatcherTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void bundledRulesMatchTheDefaults() throws IOException {
+        RulesSnapshot bundled = RulesFileLoader.loadResource(RulesConfig.DEFAULT_RULES_RESOURCE);
+        RulesSnapshot defaults = RulesSnapshot.defaults();
+        assertEquals(defaults.getMinIncomeThreshold(), bundled.getMinIncomeThreshold());
+        assertEquals(defaults.getMaxDebtToIncomeRatio(), bundled.getMaxDebtToIncomeRatio());
+        assertEquals(defaults.getMinCreditScore(), bundled.getMinCreditScore());
+        assertEquals(defaults.getMinEmploymentMonths(), bundled.getMinEmploymentMonths());
+        assertEquals(defaults.getMaxLoanToIncomeRatio(), bundled.getMaxLoanToIncomeRatio());
+        assertArrayEquals(defaults.getRiskThresholds(), bundled.getRiskThresholds());
+    }
+
+    @Test
+    void startupWithoutFileUsesBundledRules() {
+        RulesConfig config = RulesConfig.getInstance().copy();
+        config.setMinIncomeThreshold(9999);
+
+        assertNull(config.loadStartupRules(null));
+        assertEquals(RulesSnapshot.defaults().getMinIncomeThreshold(), config.getMinIncomeThreshold());
+    }
+
+    @Test
+    void startupWithInvalidFileFallsBackToBundledRules() throws IOException {
+        Path file = write("rules.json", "{ \"minCreditScore\": ");
+        RulesConfig config = RulesConfig.getInstance().copy();
+        config.setMinCreditScore(999);
+
+        assertNull(config.loadStartupRules(file.toString()));
+        assertEquals(RulesSnapshot.defaults().getMinCreditScore(), config.getMinCreditScore());
+    }
+
+    @Test
+    void changesAreReloadedAndBadEditsKeepCurrentRules() throws Exception {
+        Path file = write("rules.json", "{ \"minIncomeThreshold\": 2500.0 }");
+        RulesConfig config = RulesConfig.getInstance().copy();
+
+        try (RulesFileWatcher watcher = config.loadStartupRules(file.toString())) {
+            assertNotNull(watcher);
+            assertEquals(2500.0, config.getMinIncomeThreshold());
+
+            write("rules.json", "{ \"minIncomeThreshold\": 3000.0 }");
+            awaitTrue(() -> config.getMinIncomeThreshold() == 3000.0);
+
+            // Broken JSON, then a value that fails validation: both are reported, nothing changes
+            int reloads = watcher.getReloadCount();
+            write("rules.json", "{ \"minIncomeThreshold\": [ }");
+            awaitTrue(() -> watcher.getLastError() != null);
+            write("rules.json", "{ \"riskThresholds\": [10, 90] }");
+            awaitTrue(() -> watcher.getLastError() != null && watcher.getLastError().contains("riskThresholds"));
+            assertEquals(3000.0, config.getMinIncomeThreshold());
+            assertEquals(reloads, watcher.getReloadCount());
+
+            // The watcher survived and still applies the next good edit
+            write("rules.json", "{ \"minIncomeThreshold\": 1800.0 }");
+            awaitTrue(() -> config.getMinIncomeThreshold() == 1800.0);
+            assertNull(watcher.getLastError());
+        }
+    }
+
+    @Test
+    void propertiesFilesLoadToo() throws IOException {
+        Path file = write("rules.properties", "minEmploymentMonths=12\nriskThresholds=70,40\n");
+        RulesSnapshot rules = RulesFileLoader.load(file);
+        assertEquals(12, rules.getMinEmploymentMonths());
+        assertArrayEquals(new int[] { 70, 40 }, rules.getRiskThresholds());
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for the watcher");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.loantool.models;
+
+import com.loantool.algorithms.RiskClassifier;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The packed table must answer every question the LoanDecision list it replaces would
+class DecisionTableTest {
+
+    @Test
+    void classifyTableMatchesClassifiedDecisions() {
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(TestDataGenerator.generateApplicants(2_000));
+        for (int row = 0; row < columns.size(); row++) {
+            columns.calculateRiskScore(row);
+        }
+        int[] rows = new int[columns.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = rows.length - 1 - i;
+        }
+
+        RiskClassifier classifier = new RiskClassifier();
+        List<LoanDecision> decisions = classifier.classify(columns, rows);
+        DecisionTable table = classifier.classifyTable(columns, rows);
+
+        assertSame(columns, table.getApplicants());
+        assertColumnsMatch(decisions, table);
+    }
+
+    @Test
+    void fromDecisionsKeepsCustomReasonsAndValues() {
+        List<LoanDecision> decisions = new ArrayList<>();
+        Applicant scored = applicant("APP0001", 72.5);
+        decisions.add(LoanDecision.scored(scored, RiskTier.LOW_RISK, true, scored.getRiskScore(), 1_700_000_000_123L));
+        Applicant custom = applicant("APP0002", 35.0);
+        decisions.add(new LoanDecision(custom, RiskTier.HIGH_RISK, false, "Manual \"review\" required", 0.2));
+        Applicant stale = applicant("APP0003", 55.0);
+        // Reason written for another score than the applicant's, so it is stored as text
+        decisions.add(LoanDecision.scored(stale, RiskTier.MEDIUM_RISK, true, 60.0, 1_700_000_000_123L));
+        decisions.add(new LoanDecision(applicant("APP0004", 10.0), RiskTier.HIGH_RISK, false,
+                "Manual \"review\" required", 0.2));
+
+        DecisionTable table = DecisionTable.fromDecisions(decisions);
+
+        assertColumnsMatch(decisions, table);
+        assertEquals(0.2, table.getInterestRate(1));
+        assertEquals(LoanDecision.formatScoreReason(60.0, RiskTier.MEDIUM_RISK), table.getDecisionReason(2));
+    }
+
+    @Test
+    void rangeQueryAndAuditTrailReadColumns() {
+        List<LoanDecision> decisions = new ArrayList<>();
+        double[] scores = { 80.0, 50.0, 65.5, 49.99, 50.0 };
+        for (int i = 0; i < scores.length; i++) {
+            Applicant a = applicant("APP000" + i, scores[i]);
+            decisions.add(LoanDecision.scored(a, RiskTier.MEDIUM_RISK, true, scores[i]));
+        }
+        DecisionTable table = DecisionTable.fromDecisions(decisions);
+
+        List<Applicant> inRange = table.findInRange(50.0, 70.0);
+        assertEquals(3, inRange.size());
+        assertEquals("APP0001", inRange.get(0).getId());
+        assertEquals("APP0002", inRange.get(1).getId());
+        assertEquals("APP0004", inRange.get(2).getId());
+
+        String trail = table.getAuditTrail();
+        assertTrue(trail.contains("1. APP0000 -> " + RiskTier.MEDIUM_RISK.getDisplayName() + " | next: APP0001"));
+        assertTrue(trail.contains("5. APP0004 -> " + RiskTier.MEDIUM_RISK.getDisplayName() + " | (tail)"));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getRow(scores.length));
+    }
+
+    private static Applicant applicant(String id, double riskScore) {
+        Applicant applicant = new Applicant(id, 5000, 1000, 700, 24, 20000);
+        applicant.setRiskScore(riskScore);
+        return applicant;
+    }
+
+    private static void assertColumnsMatch(List<LoanDecision> decisions, DecisionTable table) {
+        assertEquals(decisions.size(), table.size());
+        int approved = 0;
+        for (int i = 0; i < decisions.size(); i++) {
+            LoanDecision decision = decisions.get(i);
+            Applicant applicant = decision.getApplicant();
+            int row = table.getRow(i);
+
+            assertEquals(applicant.getId(), table.getApplicants().getId(row), "decision " + i);
+            assertEquals(applicant.getRiskScore(), table.getApplicants().getRiskScore(row), "decision " + i);
+            assertEquals(decision.getRiskTier(), table.getRiskTier(i), "decision " + i);
+            assertEquals(decision.isApproved(), table.isApproved(i), "decision " + i);
+            assertEquals(decision.getRecommendedLimit(), table.getRecommendedLimit(i), "decision " + i);
+            assertEquals(decision.getInterestRate(), table.getInterestRate(i), "decision " + i);
+            assertEquals(decision.getDecisionReason(), table.getDecisionReason(i), "decision " + i);
+            if (decision.isApproved()) {
+                approved++;
+            }
+        }
+        assertEquals(approved, table.getApprovedCount());
+    }
+}
@@ -0,0 +1,89 @@
+package com.loantool.models;
+
+import com.loantool.algorithms.EligibilityEngine;
+import com.loantool.algorithms.RiskClassifier;
+import com.loantool.algorithms.RiskScoringKernel;
+import com.loantool.algorithms.ScoreIndexSorter;
+import com.loantool.utils.ReportGenerator;
+import com.loantool.utils.TestDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The off-heap store must behave exactly like ApplicantColumns through the batch pipeline
+class OffHeapApplicantStoreTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storesSameFieldsAsColumns() throws IOException {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(10_000);
+        ApplicantColumns columns = new ApplicantColumns();
+        try (OffHeapApplicantStore offHeap = OffHeapApplicantStore.allocateDirect()) {
+            for (Applicant applicant : applicants) {
+                assertEquals(columns.add(applicant), offHeap.add(applicant));
+            }
+            assertEquals(describe(columns), describe(offHeap));
+        }
+    }
+
+    @Test
+    void pipelineGivesSameDecisionsAndReport() throws IOException {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(20_000);
+        try (OffHeapApplicantStore offHeap = OffHeapApplicantStore.mapTemporaryFile()) {
+            ApplicantColumns columns = new ApplicantColumns();
+            String onHeapReport = runPipeline(applicants, columns, "columns.txt");
+            String offHeapReport = runPipeline(applicants, offHeap, "offheap.txt");
+
+            assertEquals(describe(columns), describe(offHeap));
+            assertEquals(stripTimestamp(onHeapReport), stripTimestamp(offHeapReport));
+        }
+    }
+
+    // Eligibility, scoring, sorting, classification and report aggregation, as CSVProcessPanel runs them
+    private String runPipeline(List<Applicant> applicants, ApplicantStore store, String reportName)
+            throws IOException {
+        new EligibilityEngine().evaluateEligibility(applicants).forEach(store::add);
+        RiskScoringKernel.score(store);
+
+        int[] rows = new int[store.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        int[] sortedRows = new ScoreIndexSorter().sortRows(store, rows);
+        DecisionTable table = new RiskClassifier().classifyTable(store, sortedRows);
+
+        Path report = tempDir.resolve(reportName);
+        ReportGenerator.generateSummaryReport(store, sortedRows, report.toString());
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < table.size(); i++) {
+            sb.append(table.getRow(i)).append('|').append(table.getRiskTier(i)).append('|')
+                    .append(table.isApproved(i)).append('|').append(table.getRecommendedLimit(i)).append('|')
+                    .append(table.getDecisionReason(i)).append('\n');
+        }
+        return sb + new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+    }
+
+    private static String stripTimestamp(String text) {
+        return text.replaceAll("Generated: .*\n", "");
+    }
+
+    private static List<String> describe(ApplicantStore store) {
+        List<String> rows = new ArrayList<>(store.size());
+        for (int row = 0; row < store.size(); row++) {
+            rows.add(store.getId(row) + "|" + store.getMonthlyIncome(row) + "|" + store.getExistingDebt(row) + "|"
+                    + store.getCreditScore(row) + "|" + store.getEmploymentDuration(row) + "|"
+                    + store.getLoanAmountRequested(row) + "|" + store.getRiskScore(row) + "|" + store.isEligible(row));
+        }
+        return rows;
+    }
+}
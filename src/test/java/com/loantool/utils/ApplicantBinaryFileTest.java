@@ -0,0 +1,83 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicantBinaryFileTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripKeepsEveryFieldAcrossBlocks() throws IOException {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(2 * ApplicantBinaryFile.BLOCK_ROWS + 7);
+        applicants.add(new Applicant("APPé中", 1234.5678, 0.1, 300, 0, Double.MAX_VALUE));
+        applicants.add(new Applicant("", -1.0, Double.NaN, 850, Integer.MAX_VALUE, 0.0));
+        String path = tempDir.resolve("applicants.bin").toString();
+
+        ApplicantBinaryFile.save(applicants, path);
+
+        assertTrue(ApplicantBinaryFile.isBinaryFile(path));
+        assertEquals(describe(applicants), describe(ApplicantBinaryFile.load(path)));
+        assertEquals(applicants.size(), ApplicantBinaryFile.readBlocks(path, (rows, ids, income, debt,
+                credit, employment, loan) -> assertTrue(rows <= ApplicantBinaryFile.BLOCK_ROWS)));
+    }
+
+    @Test
+    void emptyFileRoundTrips() throws IOException {
+        String path = tempDir.resolve("empty.bin").toString();
+        ApplicantBinaryFile.save(Collections.emptyList(), path);
+        assertTrue(ApplicantBinaryFile.load(path).isEmpty());
+    }
+
+    @Test
+    void convertedCSVLoadsLikeTheCSV() throws IOException {
+        String csv = tempDir.resolve("applicants.csv").toString();
+        String bin = tempDir.resolve("applicants.bin").toString();
+        TestDataGenerator.generateCSV(csv, 5000);
+
+        assertEquals(5000, FileHandler.convertCSVToBinary(csv, bin));
+        assertEquals(describe(FileHandler.loadApplicantsFromCSV(csv)), describe(FileHandler.loadApplicants(bin)));
+    }
+
+    @Test
+    void unfinishedWriterLeavesUnreadableFile() throws IOException {
+        String path = tempDir.resolve("unfinished.bin").toString();
+        try (ApplicantBinaryFile.Writer writer = new ApplicantBinaryFile.Writer(path)) {
+            writer.write(new Applicant("APP001", 5000, 1000, 700, 24, 10000));
+        }
+
+        assertFalse(ApplicantBinaryFile.isBinaryFile(path));
+        assertThrows(IOException.class, () -> ApplicantBinaryFile.load(path));
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path file = tempDir.resolve("truncated.bin");
+        ApplicantBinaryFile.save(TestDataGenerator.generateApplicants(1000), file.toString());
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(Files.size(file) - 100);
+        }
+
+        assertThrows(IOException.class, () -> ApplicantBinaryFile.load(file.toString()));
+    }
+
+    private static List<String> describe(List<Applicant> applicants) {
+        List<String> rows = new ArrayList<>(applicants.size());
+        for (Applicant a : applicants) {
+            rows.add(a.getId() + "|" + a.getMonthlyIncome() + "|" + a.getExistingDebt() + "|"
+                    + a.getCreditScore() + "|" + a.getEmploymentDuration() + "|" + a.getLoanAmountRequested());
+        }
+        return rows;
+    }
+}
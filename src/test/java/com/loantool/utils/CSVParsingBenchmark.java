@@ -0,0 +1,125 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Rows/sec benchmark for CSV ingestion, run in the JMH style (warmup iterations, then
+ * measured iterations, results consumed so the JIT cannot drop the work).
+ *
+ * Compares the old String path (readLine, split, validateCSVRow, then parsing the same
+ * substrings again) with the single-pass CSVFieldDecoder used by the buffered,
+ * memory-mapped and parallel loaders.
+ *
+ * Lives with the tests so it stays out of the application jar. Run it after mvn test-compile:
+ * java -Xmx4g -cp target/classes:target/test-classes com.loantool.utils.CSVParsingBenchmark [file] [rows]
+ * A missing file is generated with TestDataGenerator, which caps it at MAX_RECORDS rows (the
+ * default); pass an existing larger file and its row count to measure more.
+ */
+public class CSVParsingBenchmark {
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 3;
+
+    private interface Workload {
+        double run(String filePath) throws IOException;
+    }
+
+    // Consumed result of the last run, keeps the parsing work observable
+    private static double sink;
+
+    public static void main(String[] args) throws IOException {
+        String filePath = args.length > 0 ? args[0] : "data/input/benchmark_1m.csv";
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : TestDataGenerator.MAX_RECORDS;
+
+        if (!new File(filePath).exists()) {
+            FileHandler.createDirectoryIfNotExists(new File(filePath).getAbsoluteFile().getParent());
+            TestDataGenerator.generateCSV(filePath, rows);
+        }
+
+        System.out.println("\n📊 CSV PARSING BENCHMARK (" + rows + " rows)");
+        System.out.println("==============================================");
+
+        double before = measure("String split (before)", filePath, rows, CSVParsingBenchmark::stringPath);
+        double buffered = measure("Buffered + decoder", filePath, rows, CSVParsingBenchmark::bufferedPath);
+        double mapped = measure("Memory-mapped + decoder", filePath, rows, CSVParsingBenchmark::mappedPath);
+        double parallel = measure("Parallel chunks + decoder", filePath, rows, CSVParsingBenchmark::parallelPath);
+
+        System.out.println("----------------------------------------------");
+        System.out.printf("Buffered speedup:      %.2fx\n", buffered / before);
+        System.out.printf("Memory-mapped speedup: %.2fx\n", mapped / before);
+        System.out.printf("Parallel speedup:      %.2fx\n", parallel / before);
+    }
+
+    private static double measure(String name, String filePath, int rows, Workload workload) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += workload.run(filePath);
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += workload.run(filePath);
+            totalNanos += System.nanoTime() - start;
+        }
+
+        double seconds = totalNanos / 1e9 / MEASURED_ITERATIONS;
+        double rowsPerSecond = rows / seconds;
+        System.out.printf("%-28s %,14.0f rows/sec  (%.3f s/op)\n", name, rowsPerSecond, seconds);
+        return rowsPerSecond;
+    }
+
+    // The per-row work loadApplicantsFromCSV used to do: split, validate, then parse again
+    private static double stringPath(String filePath) throws IOException {
+        double total = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            reader.readLine(); // header
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (DataValidator.validateCSVRow(parts, lineNumber).isValid()) {
+                    total += CSVApplicantReader.buildApplicant(parts).getMonthlyIncome();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static double bufferedPath(String filePath) throws IOException {
+        double total = 0;
+        try (CSVApplicantReader reader = new CSVApplicantReader(filePath)) {
+            while (reader.hasNext()) {
+                total += reader.next().getMonthlyIncome();
+            }
+        }
+        return total;
+    }
+
+    private static double mappedPath(String filePath) throws IOException {
+        double total = 0;
+        try (MappedCSVReader reader = new MappedCSVReader(filePath)) {
+            while (reader.hasNext()) {
+                total += reader.next().getMonthlyIncome();
+            }
+        }
+        return total;
+    }
+
+    private static double parallelPath(String filePath) throws IOException {
+        double total = 0;
+        for (Applicant applicant : new ParallelCSVParser().parse(filePath).getApplicants()) {
+            total += applicant.getMonthlyIncome();
+        }
+        return total;
+    }
+}
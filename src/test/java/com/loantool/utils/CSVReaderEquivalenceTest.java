@@ -0,0 +1,132 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The mapped and parallel readers must load the same rows, in the same order and with
+// the same validation messages as the sequential CSVApplicantReader
+class CSVReaderEquivalenceTest {
+    private static final int ROWS = 100_000; // several MB, so the parallel parser splits the file
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readersAgreeOnLineFeedFile() throws IOException {
+        assertReadersAgree(writeCSV("\n"));
+    }
+
+    @Test
+    void readersAgreeOnCrLfFile() throws IOException {
+        assertReadersAgree(writeCSV("\r\n"));
+    }
+
+    @Test
+    void readersAgreeOnCarriageReturnFile() throws IOException {
+        assertReadersAgree(writeCSV("\r"));
+    }
+
+    @Test
+    void readersAgreeOnMixedTerminatorsAndInvalidRows() throws IOException {
+        Path file = tempDir.resolve("mixed.csv");
+        String csv = "ID,MonthlyIncome,ExistingDebt,CreditScore,EmploymentMonths,LoanAmountRequested\r\n"
+                + "APP001,5000.00,1200.50,720,24,10000.00\r"
+                + "APP002,abc,100,700,12,5000\n"
+                + "\r\n"
+                + "APP003, 4200.10 , 300 ,650,6,2500.75\r\n"
+                + "BAD,1,2,3,4,5\r"
+                + "APP004,1e3,10,600,3,1000\n"
+                + "APP005,3000,200,999,12,1000\r"
+                + "APP006,3100,210,700,13,1100";
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+
+        List<Applicant> expected = assertReadersAgree(file);
+        assertEquals(4, expected.size());
+        assertEquals("APP004", expected.get(2).getId());
+        assertEquals("APP006", expected.get(3).getId());
+    }
+
+    @Test
+    void loadModesReturnSameApplicants() throws IOException {
+        Path file = writeCSV("\n");
+        String path = file.toString();
+        List<String> expected = describe(FileHandler.loadApplicantsFromCSV(path));
+
+        for (FileHandler.CSVLoadMode mode : FileHandler.CSVLoadMode.values()) {
+            assertEquals(expected, describe(FileHandler.loadApplicantsFromCSV(path, mode)), mode.name());
+        }
+        assertEquals(expected, describe(FileHandler.loadApplicants(path)));
+    }
+
+    @Test
+    void loadModeFollowsFileSizeAndCores() {
+        assertEquals(FileHandler.CSVLoadMode.BUFFERED, FileHandler.chooseCSVLoadMode(1000, 8));
+        assertEquals(FileHandler.CSVLoadMode.MEMORY_MAPPED,
+                FileHandler.chooseCSVLoadMode(FileHandler.SMALL_CSV_BYTES, 1));
+        assertEquals(FileHandler.CSVLoadMode.PARALLEL,
+                FileHandler.chooseCSVLoadMode(FileHandler.SMALL_CSV_BYTES, 8));
+    }
+
+    private Path writeCSV(String terminator) throws IOException {
+        Path source = tempDir.resolve("source.csv");
+        if (!Files.exists(source)) {
+            TestDataGenerator.generateCSV(source.toString(), ROWS);
+        }
+        String csv = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+        Path file = tempDir.resolve("applicants" + terminator.length() + terminator.charAt(0) + ".csv");
+        Files.write(file, csv.replace("\n", terminator).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    // Returns the sequential reader's applicants after checking the other readers match them
+    private static List<Applicant> assertReadersAgree(Path file) throws IOException {
+        String path = file.toString();
+        List<Applicant> expected = new ArrayList<>();
+        List<String> expectedErrors;
+        try (CSVApplicantReader reader = new CSVApplicantReader(path, 4096)) {
+            reader.forEachRemaining(expected::add);
+            expectedErrors = reader.getValidationErrors();
+        }
+
+        List<Applicant> mapped = new ArrayList<>();
+        List<String> mappedErrors;
+        try (MappedCSVReader reader = new MappedCSVReader(path)) {
+            reader.forEachRemaining(mapped::add);
+            mappedErrors = reader.getValidationErrors();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelCSVParser.ParseResult parsed;
+        try {
+            parsed = new ParallelCSVParser(pool).parse(path);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(describe(expected), describe(mapped), "mapped applicants");
+        assertEquals(expectedErrors, mappedErrors, "mapped validation errors");
+        assertEquals(describe(expected), describe(parsed.getApplicants()), "parallel applicants");
+        assertEquals(expectedErrors, parsed.getValidationErrors(), "parallel validation errors");
+        return expected;
+    }
+
+    private static List<String> describe(List<Applicant> applicants) {
+        List<String> rows = new ArrayList<>(applicants.size());
+        for (Applicant a : applicants) {
+            rows.add(a.getId() + "|" + a.getMonthlyIncome() + "|" + a.getExistingDebt() + "|"
+                    + a.getCreditScore() + "|" + a.getEmploymentDuration() + "|" + a.getLoanAmountRequested());
+        }
+        return rows;
+    }
+}
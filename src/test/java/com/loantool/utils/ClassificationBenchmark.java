@@ -0,0 +1,96 @@
+package com.loantool.utils;
+
+import com.loantool.algorithms.RiskClassifier;
+import com.loantool.algorithms.RiskScoringKernel;
+import com.loantool.algorithms.RiskTierTable;
+import com.loantool.config.RulesConfig;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.RiskTier;
+
+/**
+ * Per-applicant cost of risk tier classification: the old lookup (thresholds cloned from
+ * RulesConfig, then a binary search) against RiskClassifier.classifyTier, which reuses the
+ * RiskTierTable of the current snapshot, and against the table on its own.
+ *
+ * Usage: mvn test-compile, then
+ * java -Xmx4g -cp target/classes:target/test-classes com.loantool.utils.ClassificationBenchmark [applicants]
+ * (default 10M applicants, generated in memory with TestDataGenerator)
+ */
+public class ClassificationBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    private interface Workload {
+        long run();
+    }
+
+    // Consumed result of the last run, keeps the classification work observable
+    private static long sink;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(TestDataGenerator.generateApplicants(count));
+        RiskScoringKernel.score(columns);
+        double[] scores = columns.getRiskScores();
+
+        RulesConfig config = RulesConfig.getInstance();
+        RiskClassifier classifier = new RiskClassifier();
+        RiskTierTable table = classifier.tierTable();
+
+        System.out.println("\n📊 CLASSIFICATION BENCHMARK (" + count + " applicants)");
+        System.out.println("==============================================");
+
+        double search = measure("Binary search, cloned thresholds", count, () -> {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += RiskClassifier.binarySearchRiskTier(scores[i], config.getRiskThresholds()).ordinal();
+            }
+            return total;
+        });
+
+        double classify = measure("classifyTier, cached table", count, () -> {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += classifier.classifyTier(scores[i]).ordinal();
+            }
+            return total;
+        });
+        System.out.printf("    speedup vs binary search: %.2fx\n", search / classify);
+
+        double lookup = measure("RiskTierTable.tierFor", count, () -> {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += table.tierFor(scores[i]).ordinal();
+            }
+            return total;
+        });
+        System.out.printf("    speedup vs binary search: %.2fx\n", search / lookup);
+
+        int[] tierCounts = new int[RiskTier.values().length];
+        for (int i = 0; i < count; i++) {
+            tierCounts[table.tierFor(scores[i]).ordinal()]++;
+        }
+        System.out.println("----------------------------------------------");
+        for (RiskTier tier : RiskTier.values()) {
+            System.out.printf("%-20s %,d\n", tier.getDisplayName() + ":", tierCounts[tier.ordinal()]);
+        }
+    }
+
+    // Returns nanoseconds per applicant
+    private static double measure(String name, int count, Workload workload) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += workload.run();
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += workload.run();
+            totalNanos += System.nanoTime() - start;
+        }
+
+        double nanosPerApplicant = (double) totalNanos / MEASURED_ITERATIONS / count;
+        System.out.printf("%-34s %8.2f ns/applicant\n", name, nanosPerApplicant);
+        return nanosPerApplicant;
+    }
+}
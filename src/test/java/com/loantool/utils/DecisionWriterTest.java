@@ -0,0 +1,79 @@
+package com.loantool.utils;
+
+import com.loantool.algorithms.RiskClassifier;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.DecisionTable;
+import com.loantool.models.LoanDecision;
+import com.loantool.models.RiskTier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The table writers must produce the same files as the LoanDecision list writers
+class DecisionWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tableAndListWritersProduceSameFiles() throws IOException {
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(TestDataGenerator.generateApplicants(500));
+        for (int row = 0; row < columns.size(); row++) {
+            columns.calculateRiskScore(row);
+        }
+        int[] rows = new int[columns.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        List<LoanDecision> decisions = new RiskClassifier().classify(columns, rows);
+        decisions.add(new LoanDecision(new Applicant("APP9999", 4200, 800, 640, 12, 15000),
+                RiskTier.HIGH_RISK, false, "Manual \"review\", see notes", 0.25));
+        DecisionTable table = DecisionTable.fromDecisions(decisions);
+
+        assertSameOutput(decisions, table, "results.csv", true);
+        assertSameOutput(decisions, table, "results.json", false);
+    }
+
+    @Test
+    void jsonFromTableLoadsBack() throws IOException {
+        List<LoanDecision> decisions = List.of(
+                LoanDecision.scored(scoredApplicant("APP0001", 75.25), RiskTier.LOW_RISK, true, 75.25,
+                        1_700_000_000_123L));
+        String path = tempDir.resolve("out/results.json").toString();
+
+        FileHandler.saveDecisionsToJSON(DecisionTable.fromDecisions(decisions), path);
+        List<LoanDecision> loaded = FileHandler.loadDecisionsFromJSON(path);
+
+        assertEquals(1, loaded.size());
+        assertEquals("APP0001", loaded.get(0).getApplicant().getId());
+        assertEquals(RiskTier.LOW_RISK, loaded.get(0).getRiskTier());
+        assertTrue(loaded.get(0).isApproved());
+        assertEquals(75.25, loaded.get(0).getApplicant().getRiskScore());
+    }
+
+    private void assertSameOutput(List<LoanDecision> decisions, DecisionTable table, String fileName, boolean csv)
+            throws IOException {
+        Path fromList = tempDir.resolve("list").resolve(fileName);
+        Path fromTable = tempDir.resolve("table").resolve(fileName);
+        if (csv) {
+            FileHandler.saveDecisionsToCSV(decisions, fromList.toString());
+            FileHandler.saveDecisionsToCSV(table, fromTable.toString());
+        } else {
+            FileHandler.saveDecisionsToJSON(decisions, fromList.toString());
+            FileHandler.saveDecisionsToJSON(table, fromTable.toString());
+        }
+        assertEquals(Files.readString(fromList), Files.readString(fromTable), fileName);
+    }
+
+    private static Applicant scoredApplicant(String id, double riskScore) {
+        Applicant applicant = new Applicant(id, 6000, 900, 760, 36, 25000);
+        applicant.setRiskScore(riskScore);
+        return applicant;
+    }
+}
@@ -0,0 +1,95 @@
+package com.loantool.utils;
+
+import com.loantool.algorithms.EligibilityEngine;
+import com.loantool.algorithms.RulePipeline;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+import com.loantool.models.RejectionReason;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Throughput benchmark for batch eligibility evaluation: the sequential
+ * evaluateEligibility loop (fixed and adaptive rule order), the columnar per-row and
+ * bitset evaluators, and evaluateEligibilityParallel on pools of 1, 2, 4 ... up to the
+ * number of available cores, so the scaling curve is visible.
+ *
+ * Usage, from the test classpath (mvn test-compile first):
+ * java -Xmx4g -cp target/classes:target/test-classes com.loantool.utils.EligibilityBenchmark [applicants]
+ * (default 10M applicants, generated in memory with TestDataGenerator)
+ */
+public class EligibilityBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    private interface Workload {
+        int run();
+    }
+
+    // Consumed result of the last run, keeps the evaluation work observable
+    private static long sink;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(count);
+        EligibilityEngine engine = new EligibilityEngine();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("\n📊 ELIGIBILITY BENCHMARK (" + count + " applicants, " + cores + " cores)");
+        System.out.println("==============================================");
+
+        double sequential = measure("Sequential", count, () -> engine.evaluateEligibility(applicants).size());
+
+        EligibilityEngine adaptive = new EligibilityEngine(RulePipeline.defaultPipeline(), true);
+        double adaptiveRate = measure("Sequential, adaptive order", count,
+                () -> adaptive.evaluateEligibility(applicants).size());
+        System.out.printf("    speedup vs sequential: %.2fx\n", adaptiveRate / sequential);
+
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+        double columnar = measure("Columnar, per row", count, () -> engine.evaluateEligibility(columns).length);
+        double bitset = measure("Columnar, bitset masks", count, () -> engine.evaluateEligibilityBitset(columns).length);
+        System.out.printf("    speedup vs per row: %.2fx\n", bitset / columnar);
+
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                double rate = measure("Parallel x" + parallelism, count,
+                        () -> engine.evaluateEligibilityParallel(applicants, pool).getEligibleApplicants().size());
+                System.out.printf("    speedup vs sequential: %.2fx\n", rate / sequential);
+            } finally {
+                pool.shutdown();
+            }
+            if (parallelism < cores && parallelism * 2 > cores) {
+                parallelism = cores / 2; // Always finish with all cores
+            }
+        }
+
+        EligibilityEngine.BatchResult result = engine.evaluateEligibilityParallel(applicants);
+        System.out.println("----------------------------------------------");
+        System.out.println("Adaptive order (parallel batch): "
+                + adaptive.evaluateEligibilityParallel(applicants).getRuleOrder());
+        System.out.println("Eligible: " + result.getEligibleApplicants().size());
+        for (RejectionReason reason : RejectionReason.values()) {
+            System.out.printf("%-40s %,d\n", reason.getMessage() + ":", result.getRejectedCount(reason));
+        }
+    }
+
+    private static double measure(String name, int count, Workload workload) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += workload.run();
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += workload.run();
+            totalNanos += System.nanoTime() - start;
+        }
+
+        double seconds = totalNanos / 1e9 / MEASURED_ITERATIONS;
+        double rate = count / seconds;
+        System.out.printf("%-28s %,14.0f applicants/sec  (%.3f s/op)\n", name, rate, seconds);
+        return rate;
+    }
+}
@@ -0,0 +1,79 @@
+package com.loantool.utils;
+
+import com.loantool.algorithms.RiskScoringKernel;
+import com.loantool.models.Applicant;
+import com.loantool.models.ApplicantColumns;
+
+import java.util.List;
+
+/**
+ * Throughput benchmark for risk scoring: computeRiskScore per applicant, a RiskScoringKernel
+ * pass over applicants whose scores are already cached, and the kernel straight on
+ * ApplicantColumns. The columnar figure is also reported as bytes moved per second (three
+ * input columns read, one score column written), to compare against the memory bandwidth.
+ *
+ * Usage (test classpath, after mvn test-compile):
+ * java -Xmx4g -cp target/classes:target/test-classes com.loantool.utils.RiskScoringBenchmark [applicants]
+ * (default 10M applicants, generated in memory with TestDataGenerator)
+ */
+public class RiskScoringBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final int BYTES_PER_ROW = 8 + 8 + 4 + 8;
+
+    private interface Workload {
+        double run();
+    }
+
+    // Consumed result of the last run, keeps the scoring work observable
+    private static double sink;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(count);
+        ApplicantColumns columns = ApplicantColumns.fromApplicants(applicants);
+
+        System.out.println("\n📊 RISK SCORING BENCHMARK (" + count + " applicants)");
+        System.out.println("==============================================");
+
+        double perApplicant = measure("Per applicant", count, () -> {
+            for (Applicant applicant : applicants) {
+                applicant.setCalculatedRiskScore(Applicant.computeRiskScore(applicant.getMonthlyIncome(),
+                        applicant.getExistingDebt(), applicant.getCreditScore()));
+            }
+            return applicants.get(count - 1).getRiskScore();
+        });
+
+        // Every applicant is scored already, so this is the cost of a rescoring pass that finds nothing to do
+        double cached = measure("Kernel, list, cached scores", count, () -> {
+            RiskScoringKernel.scoreAll(applicants);
+            return applicants.get(count - 1).getRiskScore();
+        });
+        System.out.printf("    speedup vs per applicant: %.2fx\n", cached / perApplicant);
+
+        double columnar = measure("Kernel, columns", count, () -> {
+            RiskScoringKernel.score(columns);
+            return columns.getRiskScore(count - 1);
+        });
+        System.out.printf("    speedup vs per applicant: %.2fx  (%.2f GB/s)\n", columnar / perApplicant,
+                columnar * BYTES_PER_ROW / 1e9);
+    }
+
+    private static double measure(String name, int count, Workload workload) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += workload.run();
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += workload.run();
+            totalNanos += System.nanoTime() - start;
+        }
+
+        double seconds = totalNanos / 1e9 / MEASURED_ITERATIONS;
+        double rate = count / seconds;
+        System.out.printf("%-28s %,14.0f applicants/sec  (%.3f s/op)\n", name, rate, seconds);
+        return rate;
+    }
+}
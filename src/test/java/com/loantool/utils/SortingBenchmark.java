@@ -0,0 +1,76 @@
+package com.loantool.utils;
+
+import com.loantool.algorithms.MergeSorter;
+import com.loantool.algorithms.ParallelMergeSorter;
+import com.loantool.algorithms.RiskScoringKernel;
+import com.loantool.algorithms.ScoreIndexSorter;
+import com.loantool.models.Applicant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Wall-clock comparison of the applicant sorters on a large scored list, the way
+ * SortingComparisonPanel calls them (each run sorts a fresh copy of the input).
+ * Every result is checked element by element against MergeSorter, so a sorter that
+ * loses stability fails the run.
+ *
+ * Usage (mvn test-compile builds it):
+ * java -Xmx4g -cp target/classes:target/test-classes com.loantool.utils.SortingBenchmark [applicants]
+ * (default 2M applicants, generated in memory with TestDataGenerator)
+ */
+public class SortingBenchmark {
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 3;
+
+    private interface Sorter {
+        List<Applicant> sort(List<Applicant> applicants);
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(count);
+        RiskScoringKernel.scoreAll(applicants);
+        List<Applicant> expected = new MergeSorter().sort(applicants);
+
+        System.out.println("\n📊 SORTING BENCHMARK (" + count + " applicants, " +
+                ForkJoinPool.commonPool().getParallelism() + " fork-join workers)");
+        System.out.println("==============================================");
+
+        double merge = measure("MergeSorter", applicants, expected, new MergeSorter()::sort);
+        double parallel = measure("ParallelMergeSorter", applicants, expected, new ParallelMergeSorter()::sort);
+        System.out.printf("    speedup vs MergeSorter: %.2fx\n", merge / parallel);
+
+        double index = measure("ScoreIndexSorter", applicants, expected, new ScoreIndexSorter()::sort);
+        System.out.printf("    speedup vs MergeSorter: %.2fx\n", merge / index);
+    }
+
+    // Returns milliseconds per sort
+    private static double measure(String name, List<Applicant> applicants, List<Applicant> expected, Sorter sorter) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            verify(name, sorter.sort(new ArrayList<>(applicants)), expected);
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            List<Applicant> copy = new ArrayList<>(applicants);
+            long start = System.nanoTime();
+            List<Applicant> sorted = sorter.sort(copy);
+            totalNanos += System.nanoTime() - start;
+            verify(name, sorted, expected);
+        }
+
+        double millis = totalNanos / 1e6 / MEASURED_ITERATIONS;
+        System.out.printf("%-28s %10.1f ms/sort\n", name, millis);
+        return millis;
+    }
+
+    private static void verify(String name, List<Applicant> sorted, List<Applicant> expected) {
+        for (int i = 0; i < expected.size(); i++) {
+            if (sorted.get(i) != expected.get(i)) {
+                throw new IllegalStateException(name + " differs from MergeSorter at index " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.loantool.utils;
+
+import com.loantool.models.Applicant;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestDataGeneratorTest {
+
+    @Test
+    void generatedApplicantIdsAreUniquePastSixDigits() {
+        List<Applicant> applicants = TestDataGenerator.generateApplicants(TestDataGenerator.MAX_RECORDS + 10);
+        Set<String> ids = new HashSet<>();
+        for (Applicant applicant : applicants) {
+            assertTrue(ids.add(applicant.getId()), "duplicate ID " + applicant.getId());
+        }
+        assertEquals("APP999999", applicants.get(TestDataGenerator.MAX_RECORDS - 1).getId());
+        assertEquals("APP1000000", applicants.get(TestDataGenerator.MAX_RECORDS).getId());
+    }
+
+    @Test
+    void csvLargerThanIdRangeIsRefused() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TestDataGenerator.generateCSV("unused.csv", TestDataGenerator.MAX_RECORDS + 1));
+    }
+}